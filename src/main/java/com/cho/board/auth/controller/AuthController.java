@@ -82,4 +82,12 @@ public class AuthController {
         return ResponseEntity.ok(
             ApiResponse.success(authService.refreshToken(request.getRefreshToken())));
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+        @Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request.getRefreshToken());
+
+        return ResponseEntity.ok(ApiResponse.success(null, "로그아웃되었습니다."));
+    }
 }
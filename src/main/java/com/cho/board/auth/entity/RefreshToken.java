@@ -0,0 +1,81 @@
+package com.cho.board.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 발급한 Refresh Token 1개 (id = 토큰의 jti)
+// 같은 로그인에서 교체되며 이어진 토큰들은 sessionId 를 공유하고, 세션을 폐기하면 모두 함께 폐기된다
+// 교체된 토큰도 만료 시각까지 남겨 두어 재사용(탈취)을 감지
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_tokens_session", columnList = "session_id"),
+    @Index(name = "idx_refresh_tokens_expiry", columnList = "expiry_date"),
+    @Index(name = "idx_refresh_tokens_revoked", columnList = "revoked_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 토큰 원문 대신 SHA-256 (DB 가 유출되어도 토큰으로 쓸 수 없음)
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expiry_date", nullable = false)
+    private LocalDateTime expiryDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 새 토큰으로 교체된 시각 (이후 다시 쓰이면 재사용)
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    // 세션 폐기 시각 (로그아웃, 재사용 감지)
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Builder
+    public RefreshToken(String id, String sessionId, Long userId, String tokenHash,
+        LocalDateTime expiryDate) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.expiryDate = expiryDate;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean matches(String tokenHash) {
+        return this.tokenHash.equals(tokenHash);
+    }
+
+    public void markUsed() {
+        this.usedAt = LocalDateTime.now();
+    }
+
+    public boolean isUsed() {
+        return usedAt != null;
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.cho.board.auth.repository;
+
+import com.cho.board.auth.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 같은 토큰으로 동시에 갱신해도 한 번만 교체되도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM RefreshToken t WHERE t.id = :id")
+    Optional<RefreshToken> findByIdForUpdate(@Param("id") String id);
+
+    // 세션의 모든 토큰 폐기
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now "
+        + "WHERE t.sessionId = :sessionId AND t.revokedAt IS NULL")
+    int revokeSession(@Param("sessionId") String sessionId, @Param("now") LocalDateTime now);
+
+    // 사용자의 아직 유효한 세션 (비밀번호 변경 / 탈퇴 시 메모리 목록에도 반영하기 위함)
+    @Query("SELECT DISTINCT t.sessionId FROM RefreshToken t "
+        + "WHERE t.userId = :userId AND t.revokedAt IS NULL AND t.expiryDate > :now")
+    List<String> findActiveSessionIds(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 사용자의 모든 토큰 폐기
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now "
+        + "WHERE t.userId = :userId AND t.revokedAt IS NULL")
+    int revokeAllForUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 주어진 시각 이후 폐기된 세션 중 아직 만료되지 않은 것 (다른 인스턴스의 폐기 반영용)
+    @Query("SELECT DISTINCT t.sessionId FROM RefreshToken t "
+        + "WHERE t.revokedAt > :since AND t.expiryDate > :now")
+    List<String> findSessionsRevokedAfter(
+        @Param("since") LocalDateTime since,
+        @Param("now") LocalDateTime now);
+
+    // 만료된 토큰 id (배치 삭제용)
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiryDate < :now")
+    List<String> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
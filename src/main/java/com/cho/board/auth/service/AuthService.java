@@ -6,7 +6,7 @@ import com.cho.board.auth.dtos.TokenResponse;
 import com.cho.board.global.exception.CustomJwtException;
 import com.cho.board.global.exception.DuplicateResourceException;
 import com.cho.board.global.exception.ErrorCode;
-import com.cho.board.global.util.JwtUtil;
+import com.cho.board.global.security.CustomUserDetails;
 import com.cho.board.user.entity.User;
 import com.cho.board.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +16,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -27,16 +28,21 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
-    private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
+    // BCrypt 해시(대기열 대기 포함)는 트랜잭션 밖에서 실행하고 저장만 짧은 트랜잭션으로 처리
+    // (해시를 기다리는 동안 DB 커넥션을 붙잡지 않음, 이메일 중복 경쟁은 unique 제약이 막음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException(ErrorCode.EMAIL_ALREADY_EXISTS, "이미 존재하는 이메일입니다.");
         }
 
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+
         User user = User.builder()
             .email(request.getEmail())
-            .password(passwordEncoder.encode(request.getPassword()))
+            .password(encodedPassword)
             .name(request.getName())
             .nickname(request.getNickname())
             .build();
@@ -44,8 +50,10 @@ public class AuthService {
         userRepository.save(user);
     }
 
+    // 인증(BCrypt 비교)은 트랜잭션 밖에서 실행하고 토큰 저장만 RefreshTokenService 의 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(LoginRequest request) {
-        // 1. AuthenticationManager 에게 인증 요청
+        // 1. AuthenticationManager 에게 인증 요청 (사용자 조회 / 해시 교체는 각자 짧은 트랜잭션)
         Authentication authentication = authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(
                 request.getEmail(),
@@ -53,28 +61,21 @@ public class AuthService {
             )
         );
 
-        // 2. 인증 성공 시 토큰 생성
-        String email = authentication.getName();
-        String accessToken = jwtUtil.generateAccessToken(email);
-        String refreshToken = jwtUtil.generateRefreshToken(email);
-
-        // 3. 응답 생성
-        return new TokenResponse(accessToken, refreshToken);
+        // 2. 인증 성공 시 새 로그인 세션으로 토큰 생성 (Refresh Token 은 해시로 저장)
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        return refreshTokenService.issue(
+            principal.getUserId(), principal.getUsername(), principal.getRole());
     }
 
+    // RefreshToken 검증 후 새 AccessToken / RefreshToken 발급 (제시된 RefreshToken 은 더 이상 사용 불가)
+    // 재사용 감지로 세션을 폐기한 경우 거절 예외와 함께 커밋
+    @Transactional(noRollbackFor = CustomJwtException.class)
     public TokenResponse refreshToken(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken);
+    }
 
-        // 1. RefreshToken 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new CustomJwtException("유효하지 않은 Refresh Token 입니다.");
-        }
-
-        // 2. RefreshToken 에서 이메일 추출
-        String email = jwtUtil.getEmailFromToken(refreshToken);
-
-        // 3. 새로운 AccessToken 발급 (RefreshToken 은 재사용)
-        String newAccessToken = jwtUtil.generateAccessToken(email);
-
-        return new TokenResponse(newAccessToken, refreshToken);
+    // 로그인 세션 폐기
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
     }
 }
@@ -0,0 +1,195 @@
+package com.cho.board.auth.service;
+
+import com.cho.board.auth.dtos.TokenResponse;
+import com.cho.board.auth.entity.RefreshToken;
+import com.cho.board.auth.repository.RefreshTokenRepository;
+import com.cho.board.global.config.JwtProperties;
+import com.cho.board.global.exception.CustomJwtException;
+import com.cho.board.global.security.RevokedSessionRegistry;
+import com.cho.board.global.util.JwtUtil;
+import com.cho.board.user.entity.Role;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Refresh Token 발급 / 교체 / 폐기
+// 갱신할 때마다 새 토큰으로 교체하고, 교체된 토큰이 다시 쓰이면 탈취로 보고 로그인 세션 전체를 폐기
+// 폐기된 세션은 RevokedSessionRegistry 에서 먼저 확인하므로 폐기된 토큰은 DB 조회 없이 거절
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    // 폐기 시각 기록과 커밋 사이에 동기화가 지나가도 놓치지 않도록 겹쳐서 조회하는 구간
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
+    private final RevokedSessionRegistry revokedSessionRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    // 마지막으로 폐기된 세션을 가져온 시각
+    private volatile LocalDateTime lastSyncedAt;
+
+    // 로그인 : 새 세션으로 토큰 발급
+    @Transactional
+    public TokenResponse issue(Long userId, String email, Role role) {
+        return issue(userId, email, role, UUID.randomUUID().toString());
+    }
+
+    // 갱신 : 제시된 토큰을 사용 처리하고 같은 세션으로 새 토큰 발급
+    // 재사용 감지 시 세션 폐기는 거절 예외와 함께 커밋되어야 하므로 롤백하지 않음
+    @Transactional(noRollbackFor = CustomJwtException.class)
+    public TokenResponse rotate(String refreshToken) {
+        Claims claims = jwtUtil.parseClaims(refreshToken);
+        String tokenId = claims.getId();
+        String sessionId = claims.get(JwtUtil.SESSION_ID_CLAIM, String.class);
+
+        // 저장하기 전에 발급된 토큰(jti 없음)은 다시 로그인
+        if (tokenId == null || sessionId == null) {
+            throw invalid();
+        }
+
+        // 폐기된 세션이면 DB 조회 없이 거절
+        if (revokedSessionRegistry.isRevoked(sessionId)) {
+            throw invalid();
+        }
+
+        RefreshToken stored = refreshTokenRepository.findByIdForUpdate(tokenId)
+            .filter(token -> token.matches(JwtUtil.hash(refreshToken)))
+            .orElseThrow(RefreshTokenService::invalid);
+
+        // 다른 인스턴스에서 폐기되어 아직 목록에 반영되지 않은 경우
+        if (stored.isRevoked()) {
+            revokedSessionRegistry.revoke(sessionId);
+            throw invalid();
+        }
+
+        // 이미 교체된 토큰이 다시 쓰임 : 탈취된 토큰일 수 있으므로 세션 전체 폐기
+        if (stored.isUsed()) {
+            log.warn("교체된 Refresh Token 재사용 - 세션 폐기: {}", sessionId);
+            revokeSession(sessionId);
+            throw invalid();
+        }
+
+        stored.markUsed();
+
+        // 권한은 현재 DB 기준
+        User user = userRepository.findById(stored.getUserId())
+            .orElseThrow(RefreshTokenService::invalid);
+        return issue(user.getId(), user.getEmail(), user.getRole(), sessionId);
+    }
+
+    // 로그아웃 : 토큰이 속한 세션 폐기 (이 세션의 Access Token 도 더 이상 인증되지 않음)
+    @Transactional
+    public void revoke(String refreshToken) {
+        String sessionId = jwtUtil.parseClaims(refreshToken)
+            .get(JwtUtil.SESSION_ID_CLAIM, String.class);
+        if (sessionId == null) {
+            throw invalid();
+        }
+        revokeSession(sessionId);
+    }
+
+    // 비밀번호 변경 / 탈퇴 : 사용자의 모든 로그인 세션 폐기
+    // 탈취된 Refresh Token 으로 새 Access Token 을 받을 수 없고, 세션의 Access Token 도 인증되지 않음
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> sessions = refreshTokenRepository.findActiveSessionIds(userId, now);
+        refreshTokenRepository.revokeAllForUser(userId, now);
+        sessions.forEach(revokedSessionRegistry::revoke);
+    }
+
+    // 다른 인스턴스에서 폐기한 세션을 메모리 목록에 반영
+    @Scheduled(fixedDelayString = "${jwt.revoked-session-sync-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void syncRevokedSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSyncedAt != null
+            ? lastSyncedAt.minus(SYNC_OVERLAP)
+            : now.minus(Duration.ofMillis(jwtProperties.getAccessTokenValidity()));
+
+        List<String> sessions = refreshTokenRepository.findSessionsRevokedAfter(since, now);
+        sessions.forEach(revokedSessionRegistry::revoke);
+        lastSyncedAt = now;
+
+        if (!sessions.isEmpty()) {
+            log.debug("폐기된 세션 {}개 반영", sessions.size());
+        }
+    }
+
+    // 만료된 토큰 삭제 (행 잠금이 길어지지 않도록 배치마다 트랜잭션을 나눔)
+    @Scheduled(cron = "${jwt.refresh-token-purge-cron:0 15 3 * * *}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = jwtProperties.getRefreshTokenPurgeBatchSize();
+        long purged = 0;
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<String> ids = refreshTokenRepository.findExpiredIds(now,
+                    PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    refreshTokenRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            purged += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            log.info("만료된 Refresh Token {}개 삭제 완료: {}", purged, now);
+        }
+    }
+
+    private TokenResponse issue(Long userId, String email, Role role, String sessionId) {
+        String tokenId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plusMillis(jwtProperties.getRefreshTokenValidity());
+        String refreshToken = jwtUtil.generateRefreshToken(email, tokenId, sessionId,
+            Date.from(expiresAt));
+
+        refreshTokenRepository.save(RefreshToken.builder()
+            .id(tokenId)
+            .sessionId(sessionId)
+            .userId(userId)
+            .tokenHash(JwtUtil.hash(refreshToken))
+            .expiryDate(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+            .build());
+
+        String accessToken = jwtUtil.generateAccessToken(userId, email, role, sessionId);
+        return new TokenResponse(accessToken, refreshToken);
+    }
+
+    // 목록에는 바로 추가 (트랜잭션이 롤백되더라도 거절만 늘어나는 쪽이라 안전)
+    private void revokeSession(String sessionId) {
+        refreshTokenRepository.revokeSession(sessionId, LocalDateTime.now());
+        revokedSessionRegistry.revoke(sessionId);
+    }
+
+    private static CustomJwtException invalid() {
+        return new CustomJwtException("유효하지 않은 Refresh Token 입니다.");
+    }
+}
@@ -3,8 +3,10 @@ package com.cho.board.comment.controller;
 
 import com.cho.board.comment.dtos.CommentCreateRequest;
 import com.cho.board.comment.dtos.CommentResponse;
+import com.cho.board.comment.dtos.CommentThreadResponse;
 import com.cho.board.comment.dtos.CommentUpdateRequest;
 import com.cho.board.comment.service.CommentService;
+import com.cho.board.global.response.CursorSliceResponse;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +49,32 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    // 최상위 댓글 커서 페이징 (스레드마다 앞쪽 대댓글 replySize 개 포함)
+    @GetMapping("/threads")
+    public ResponseEntity<CursorSliceResponse<CommentThreadResponse>> getCommentThreads(
+        @PathVariable Long postId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "3") int replySize) {
+        CursorSliceResponse<CommentThreadResponse> threads =
+            commentService.getCommentThreads(postId, cursor, size, replySize);
+
+        return ResponseEntity.ok(threads);
+    }
+
+    // 대댓글 더보기
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorSliceResponse<CommentResponse>> getReplies(
+        @PathVariable Long postId,
+        @PathVariable Long commentId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<CommentResponse> replies =
+            commentService.getReplies(postId, commentId, cursor, size);
+
+        return ResponseEntity.ok(replies);
+    }
+
     // 특정 댓글 조회
     @GetMapping("/{commentId}")
     public ResponseEntity<CommentResponse> getComment(
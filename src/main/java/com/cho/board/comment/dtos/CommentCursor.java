@@ -0,0 +1,49 @@
+package com.cho.board.comment.dtos;
+
+import com.cho.board.global.exception.BusinessException;
+import com.cho.board.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 댓글 키셋 페이징 커서 (작성 시각 + id, 오래된 순)
+@Getter
+@RequiredArgsConstructor
+public class CommentCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // 페이지의 마지막 댓글로 다음 커서 생성
+    public static CommentCursor of(CommentRow last) {
+        return new CommentCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 비어 있으면 첫 페이지 (null)
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 2) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
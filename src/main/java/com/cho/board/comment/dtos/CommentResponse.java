@@ -5,9 +5,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommentResponse {
 
     private Long id;
@@ -17,6 +20,7 @@ public class CommentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean deleted;
+    private Long replyCount;
 
     private List<CommentResponse> children = new ArrayList<>();
 
@@ -28,6 +32,7 @@ public class CommentResponse {
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
         this.deleted = comment.isDeleted();
+        this.replyCount = comment.getReplyCount();
 
         if (comment.isParentComment()) {
             this.children = comment.getChildren().stream()
@@ -35,4 +40,18 @@ public class CommentResponse {
                 .collect(Collectors.toList());
         }
     }
+
+    // 프로젝션 기반 생성 (자식은 트리 조립 시 채움)
+    public static CommentResponse from(CommentRow row) {
+        CommentResponse response = new CommentResponse();
+        response.id = row.getId();
+        response.content = row.isDeleted() ? "삭제된 댓글입니다." : row.getContent();
+        response.authorName = row.getAuthorName();
+        response.authorId = row.getAuthorId();
+        response.createdAt = row.getCreatedAt();
+        response.updatedAt = row.getUpdatedAt();
+        response.deleted = row.isDeleted();
+        response.replyCount = row.getReplyCount();
+        return response;
+    }
 }
@@ -0,0 +1,21 @@
+package com.cho.board.comment.dtos;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 댓글 트리 조회용 프로젝션 (엔티티/연관관계를 로딩하지 않음)
+@Getter
+@AllArgsConstructor
+public class CommentRow {
+
+    private Long id;
+    private Long parentId;
+    private String content;
+    private Long authorId;
+    private String authorName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean deleted;
+    private Long replyCount;
+}
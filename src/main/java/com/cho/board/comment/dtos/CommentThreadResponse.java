@@ -0,0 +1,16 @@
+package com.cho.board.comment.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 최상위 댓글 + 앞쪽 대댓글 일부 (나머지는 nextReplyCursor 로 이어서 조회)
+@Getter
+@AllArgsConstructor
+public class CommentThreadResponse {
+
+    private CommentResponse comment;
+    private List<CommentResponse> replies;
+    private boolean hasMoreReplies;
+    private String nextReplyCursor;
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -21,11 +22,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "Comments")
+@Table(
+    name = "Comments",
+    indexes = @Index(name = "idx_comments_post_parent_created",
+        columnList = "post_id, parent_id, created_at")
+)
 @Getter
 @Builder
+@DynamicUpdate // 대댓글 수는 별도 UPDATE 로 갱신되므로 엔티티 수정 시 변경 컬럼만 반영
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
@@ -59,6 +66,11 @@ public class Comment extends BaseEntity {
     @Column(nullable = false)
     private boolean deleted = false;
 
+    // 삭제되지 않은 대댓글 수 (대댓글 작성/삭제 시 원자적 UPDATE 로 갱신)
+    @Builder.Default
+    @Column(nullable = false)
+    private Long replyCount = 0L;
+
     // 비즈니스 메서드
     public void updateContent(String content) {
         this.content = content;
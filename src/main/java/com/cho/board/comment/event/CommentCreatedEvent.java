@@ -0,0 +1,6 @@
+package com.cho.board.comment.event;
+
+// 댓글 작성 이벤트 (인기 게시글 점수 등에 반영)
+public record CommentCreatedEvent(Long postId, Long categoryId, Long commentId) {
+
+}
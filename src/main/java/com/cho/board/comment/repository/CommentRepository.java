@@ -1,9 +1,14 @@
 package com.cho.board.comment.repository;
 
+import com.cho.board.comment.dtos.CommentRow;
 import com.cho.board.comment.entity.Comment;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,6 +17,87 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.deleted = false ORDER BY c.createdAt ASC")
     List<Comment> findAllByPostId(@Param("postId") Long postId);
 
+    // 게시글의 모든 댓글 + 작성자 (삭제 표시된 부모 댓글 포함, 트리 조립용)
+    @Query("SELECT new com.cho.board.comment.dtos.CommentRow("
+        + "c.id, c.parent.id, c.content, a.id, a.name, c.createdAt, c.updatedAt, c.deleted, c.replyCount) "
+        + "FROM Comment c JOIN c.author a "
+        + "WHERE c.post.id = :postId "
+        + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findCommentRowsByPostId(@Param("postId") Long postId);
+
+    // ========== 키셋 페이징 (post_id, parent_id, created_at 인덱스 사용) ==========
+
+    // 최상위 댓글 첫 페이지
+    @Query("SELECT new com.cho.board.comment.dtos.CommentRow("
+        + "c.id, c.parent.id, c.content, a.id, a.name, c.createdAt, c.updatedAt, c.deleted, c.replyCount) "
+        + "FROM Comment c JOIN c.author a "
+        + "WHERE c.post.id = :postId AND c.parent IS NULL "
+        + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findRootRows(@Param("postId") Long postId, Limit limit);
+
+    // 최상위 댓글 커서 이후 페이지
+    @Query("SELECT new com.cho.board.comment.dtos.CommentRow("
+        + "c.id, c.parent.id, c.content, a.id, a.name, c.createdAt, c.updatedAt, c.deleted, c.replyCount) "
+        + "FROM Comment c JOIN c.author a "
+        + "WHERE c.post.id = :postId AND c.parent IS NULL "
+        + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+        + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findRootRowsAfter(
+        @Param("postId") Long postId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit);
+
+    // 대댓글 첫 페이지
+    @Query("SELECT new com.cho.board.comment.dtos.CommentRow("
+        + "c.id, c.parent.id, c.content, a.id, a.name, c.createdAt, c.updatedAt, c.deleted, c.replyCount) "
+        + "FROM Comment c JOIN c.author a "
+        + "WHERE c.post.id = :postId AND c.parent.id = :parentId "
+        + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findReplyRows(
+        @Param("postId") Long postId,
+        @Param("parentId") Long parentId,
+        Limit limit);
+
+    // 여러 댓글의 앞쪽 대댓글을 부모별 perParent 개씩 한 번에 조회 (스레드 목록용)
+    // 부모별 순번은 (created_at, id) 순서, 결과는 부모 -> 작성 순서로 정렬
+    @Query("SELECT new com.cho.board.comment.dtos.CommentRow("
+        + "r.id, r.parentId, r.content, r.authorId, r.authorName, r.createdAt, r.updatedAt, "
+        + "r.deleted, r.replyCount) "
+        + "FROM ("
+        + "SELECT c.id AS id, c.parent.id AS parentId, c.content AS content, a.id AS authorId, "
+        + "a.name AS authorName, c.createdAt AS createdAt, c.updatedAt AS updatedAt, "
+        + "c.deleted AS deleted, c.replyCount AS replyCount, "
+        + "ROW_NUMBER() OVER (PARTITION BY c.parent.id ORDER BY c.createdAt ASC, c.id ASC) AS rn "
+        + "FROM Comment c JOIN c.author a "
+        + "WHERE c.post.id = :postId AND c.parent.id IN :parentIds"
+        + ") r "
+        + "WHERE r.rn <= :perParent "
+        + "ORDER BY r.parentId ASC, r.createdAt ASC, r.id ASC")
+    List<CommentRow> findFirstReplyRows(
+        @Param("postId") Long postId,
+        @Param("parentIds") Collection<Long> parentIds,
+        @Param("perParent") long perParent);
+
+    // 대댓글 커서 이후 페이지
+    @Query("SELECT new com.cho.board.comment.dtos.CommentRow("
+        + "c.id, c.parent.id, c.content, a.id, a.name, c.createdAt, c.updatedAt, c.deleted, c.replyCount) "
+        + "FROM Comment c JOIN c.author a "
+        + "WHERE c.post.id = :postId AND c.parent.id = :parentId "
+        + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+        + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentRow> findReplyRowsAfter(
+        @Param("postId") Long postId,
+        @Param("parentId") Long parentId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit);
+
+    // 대댓글 수 원자적 증감
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :id")
+    int adjustReplyCount(@Param("id") Long id, @Param("delta") long delta);
+
     @EntityGraph(attributePaths = {"user", "post"})
     List<Comment> findAllWithUserAndPostByPostId(Long postId);
 }
@@ -0,0 +1,83 @@
+package com.cho.board.comment.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 비정규화된 댓글 수(posts.comment_count, comments.reply_count) 보정 작업
+// 실제 개수와 다른 행만 골라 id 구간 단위로 차이만큼 더한다
+// (읽은 뒤 쓰기 전에 들어온 증감도 그대로 보존되도록 값을 덮어쓰지 않고 차이를 반영)
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private static final String POST_DRIFT_SQL =
+        "SELECT p.id, p.comment_count, "
+            + "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.deleted = false) "
+            + "FROM posts p WHERE p.id > ? ORDER BY p.id LIMIT ?";
+
+    private static final String POST_FIX_SQL =
+        "UPDATE posts SET comment_count = comment_count + ? WHERE id = ?";
+
+    private static final String REPLY_DRIFT_SQL =
+        "SELECT c.id, c.reply_count, "
+            + "(SELECT COUNT(*) FROM comments r WHERE r.parent_id = c.id AND r.deleted = false) "
+            + "FROM comments c WHERE c.id > ? ORDER BY c.id LIMIT ?";
+
+    private static final String REPLY_FIX_SQL =
+        "UPDATE comments SET reply_count = reply_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CommentCountReconciler(
+        JdbcTemplate jdbcTemplate,
+        @Value("${comment.count.reconcile-batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${comment.count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        int posts = reconcile(POST_DRIFT_SQL, POST_FIX_SQL);
+        int comments = reconcile(REPLY_DRIFT_SQL, REPLY_FIX_SQL);
+        log.info("댓글 수 보정 완료 - 게시글: {}건, 댓글: {}건", posts, comments);
+    }
+
+    // 배치마다 자동 커밋 (긴 트랜잭션으로 테이블 전체를 잡지 않음)
+    private int reconcile(String driftSql, String fixSql) {
+        long lastId = 0L;
+        int fixed = 0;
+
+        while (true) {
+            List<long[]> rows = jdbcTemplate.query(driftSql,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+                lastId, batchSize);
+            if (rows.isEmpty()) {
+                return fixed;
+            }
+
+            List<Object[]> fixes = new ArrayList<>();
+            for (long[] row : rows) {
+                long delta = row[2] - row[1];
+                if (delta != 0) {
+                    fixes.add(new Object[]{delta, row[0]});
+                }
+            }
+            if (!fixes.isEmpty()) {
+                jdbcTemplate.batchUpdate(fixSql, fixes);
+                fixed += fixes.size();
+            }
+
+            lastId = rows.get(rows.size() - 1)[0];
+            if (rows.size() < batchSize) {
+                return fixed;
+            }
+        }
+    }
+}
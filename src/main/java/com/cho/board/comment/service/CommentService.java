@@ -2,21 +2,26 @@ package com.cho.board.comment.service;
 
 
 import com.cho.board.comment.dtos.CommentCreateRequest;
+import com.cho.board.comment.dtos.CommentCursor;
 import com.cho.board.comment.dtos.CommentResponse;
+import com.cho.board.comment.dtos.CommentThreadResponse;
 import com.cho.board.comment.dtos.CommentUpdateRequest;
 import com.cho.board.comment.entity.Comment;
+import com.cho.board.comment.event.CommentCreatedEvent;
 import com.cho.board.post.entity.Post;
 import com.cho.board.user.entity.User;
 import com.cho.board.global.exception.AccessDeniedException;
 import com.cho.board.global.exception.BusinessException;
 import com.cho.board.global.exception.ErrorCode;
 import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.constants.PageConstants;
+import com.cho.board.global.response.CursorSliceResponse;
 import com.cho.board.comment.repository.CommentRepository;
 import com.cho.board.post.repository.PostRepository;
 import com.cho.board.user.repository.UserRepository;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +30,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentService {
 
+    // 스레드에 함께 담는 대댓글 최대 개수
+    private static final int MAX_INLINE_REPLIES = 10;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentThreadLoader commentThreadLoader;
 
     // 특정 댓글 조회
     @Transactional(readOnly = true)
@@ -38,24 +48,44 @@ public class CommentService {
         return new CommentResponse(comment);
     }
 
-    // 최 상위 댓글만 조회
+    // 최 상위 댓글만 조회 (대댓글은 각 부모 댓글의 children 으로 포함)
     @Transactional(readOnly = true)
     public List<CommentResponse> getParentCommentsByPost(Long postId) {
-        return commentRepository
-            .findAllByPostId(postId)
-            .stream()
-            .filter(Comment::isParentComment)
-            .map(CommentResponse::new)
-            .collect(Collectors.toList());
+        return commentThreadLoader.load(postId);
     }
 
-    // 모든 댓글 조회 (대댓글 포함)
+    // 모든 댓글 조회 (대댓글 포함, 트리 형태로 각 댓글은 한 번씩만 포함)
     @Transactional(readOnly = true)
     public List<CommentResponse> getAllCommentsByPost(Long postId) {
-        return commentRepository.findAllByPostId(postId)
-            .stream()
-            .map(CommentResponse::new)
-            .collect(Collectors.toList());
+        return commentThreadLoader.load(postId);
+    }
+
+    // 최상위 댓글 커서 페이징 + 스레드별 앞쪽 대댓글
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<CommentThreadResponse> getCommentThreads(
+        Long postId,
+        String cursor,
+        int size,
+        int replySize
+    ) {
+        return commentThreadLoader.loadThreads(postId, CommentCursor.decode(cursor),
+            clamp(size, PageConstants.MAX_PAGE_SIZE), clamp(replySize, MAX_INLINE_REPLIES));
+    }
+
+    // 대댓글 더보기 (스레드 응답의 nextReplyCursor 로 이어서 조회)
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<CommentResponse> getReplies(
+        Long postId,
+        Long commentId,
+        String cursor,
+        int size
+    ) {
+        return commentThreadLoader.loadReplies(postId, commentId, CommentCursor.decode(cursor),
+            clamp(size, PageConstants.MAX_PAGE_SIZE));
+    }
+
+    private static int clamp(int size, int max) {
+        return Math.min(Math.max(size, 1), max);
     }
 
     // 댓글 작성
@@ -81,6 +111,16 @@ public class CommentService {
             .build();
 
         Comment savedComment = commentRepository.save(comment);
+
+        postRepository.adjustCommentCount(postId, 1);
+        if (parent != null) {
+            commentRepository.adjustReplyCount(parent.getId(), 1);
+        }
+
+        // 카테고리 프록시는 ID 만 꺼내므로 초기화되지 않음
+        Long categoryId = post.getCategory() != null ? post.getCategory().getId() : null;
+        eventPublisher.publishEvent(
+            new CommentCreatedEvent(postId, categoryId, savedComment.getId()));
         return new CommentResponse(savedComment);
     }
 
@@ -110,12 +150,21 @@ public class CommentService {
             throw new AccessDeniedException(ErrorCode.COMMENT_ACCESS_DENIED);
         }
 
+        // 이미 소프트 삭제된 댓글 : 댓글 수를 다시 줄이지 않도록 그대로 종료
+        if (comment.isDeleted()) {
+            return;
+        }
+
         if (comment.isParentComment() && !comment.getChildren().isEmpty()) {
             // 최상위 댓글이고 대댓글이 있으면 소프트 삭제
             comment.delete();
         } else {
             // 대댓글이거나 자식이 없으면 실제 삭제
             commentRepository.delete(comment);
+            if (comment.getParent() != null) {
+                commentRepository.adjustReplyCount(comment.getParent().getId(), -1);
+            }
         }
+        postRepository.adjustCommentCount(comment.getPost().getId(), -1);
     }
 }
@@ -0,0 +1,118 @@
+package com.cho.board.comment.service;
+
+import com.cho.board.comment.dtos.CommentCursor;
+import com.cho.board.comment.dtos.CommentResponse;
+import com.cho.board.comment.dtos.CommentRow;
+import com.cho.board.comment.dtos.CommentThreadResponse;
+import com.cho.board.comment.repository.CommentRepository;
+import com.cho.board.global.response.CursorSliceResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 게시글 댓글 트리 로더
+// 댓글 + 작성자를 프로젝션 쿼리 한 번으로 가져와 메모리에서 부모/자식 관계를 조립한다
+@Component
+@RequiredArgsConstructor
+public class CommentThreadLoader {
+
+    private final CommentRepository commentRepository;
+
+    @Transactional(readOnly = true)
+    public List<CommentResponse> load(Long postId) {
+        return assemble(commentRepository.findCommentRowsByPostId(postId));
+    }
+
+    // 최상위 댓글을 커서 단위로 조회하고 각 스레드의 앞쪽 대댓글 replySize 개를 함께 담는다
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<CommentThreadResponse> loadThreads(
+        Long postId,
+        CommentCursor after,
+        int size,
+        int replySize
+    ) {
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        Limit limit = Limit.of(size + 1);
+        List<CommentRow> roots = after == null
+            ? commentRepository.findRootRows(postId, limit)
+            : commentRepository.findRootRowsAfter(postId, after.getCreatedAt(), after.getId(), limit);
+
+        boolean hasNext = roots.size() > size;
+        List<CommentRow> page = hasNext ? roots.subList(0, size) : roots;
+
+        // 페이지의 모든 스레드 대댓글을 부모별 replySize + 1 개씩 한 번에 조회 (스레드 수와 무관하게 쿼리 1회)
+        Map<Long, List<CommentRow>> repliesByParent = page.isEmpty()
+            ? Map.of()
+            : commentRepository.findFirstReplyRows(postId,
+                    page.stream().map(CommentRow::getId).toList(), replySize + 1L)
+                .stream()
+                .collect(Collectors.groupingBy(CommentRow::getParentId));
+
+        List<CommentThreadResponse> threads = page.stream()
+            .map(root -> {
+                CursorSliceResponse<CommentResponse> replies = slice(
+                    repliesByParent.getOrDefault(root.getId(), List.of()), replySize);
+                return new CommentThreadResponse(CommentResponse.from(root),
+                    replies.getContent(), replies.isHasNext(), replies.getNextCursor());
+            })
+            .toList();
+
+        String nextCursor = hasNext ? CommentCursor.of(page.get(page.size() - 1)).encode() : null;
+        return CursorSliceResponse.of(threads, size, nextCursor);
+    }
+
+    // 특정 댓글의 대댓글을 커서 단위로 조회
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<CommentResponse> loadReplies(
+        Long postId,
+        Long parentId,
+        CommentCursor after,
+        int size
+    ) {
+        Limit limit = Limit.of(size + 1);
+        List<CommentRow> rows = after == null
+            ? commentRepository.findReplyRows(postId, parentId, limit)
+            : commentRepository.findReplyRowsAfter(
+                postId, parentId, after.getCreatedAt(), after.getId(), limit);
+        return slice(rows, size);
+    }
+
+    // size + 1 개까지 조회한 rows 를 한 페이지와 다음 커서로 나눔
+    private static CursorSliceResponse<CommentResponse> slice(List<CommentRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<CommentRow> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CommentCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        return CursorSliceResponse.of(
+            page.stream().map(CommentResponse::from).toList(), size, nextCursor);
+    }
+
+    // rows 는 작성 순서로 정렬되어 있다고 가정 (루트와 자식 모두 작성 순서 유지)
+    // 각 댓글은 정확히 한 번, 부모가 있으면 부모의 children 에만 포함된다
+    static List<CommentResponse> assemble(List<CommentRow> rows) {
+        Map<Long, CommentResponse> byId = new HashMap<>(rows.size() * 2);
+        for (CommentRow row : rows) {
+            byId.put(row.getId(), CommentResponse.from(row));
+        }
+
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            CommentResponse response = byId.get(row.getId());
+            CommentResponse parent = row.getParentId() != null ? byId.get(row.getParentId()) : null;
+
+            // 부모가 조회 결과에 없으면 (정합성이 깨진 경우) 루트로 노출
+            if (parent == null) {
+                roots.add(response);
+            } else {
+                parent.getChildren().add(response);
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,120 @@
+package com.cho.board.email.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 발송할 메일 1건
+// 메일을 만든 업무 데이터(인증 코드 등)와 같은 트랜잭션에 저장되므로, 커밋된 메일은 발송기가 반드시 가져가고
+// 롤백되면 메일도 나가지 않는다
+@Entity
+@Table(name = "email_outbox", indexes = {
+    @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_email_outbox_claim", columnList = "claim_token")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    // 발송 실패 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에 발송 (재시도 대기, 발송 중인 메일은 선점 만료 시각)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 발송 중인 메일을 가져간 발송기 (여러 인스턴스가 같은 메일을 동시에 보내지 않도록)
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // 이 시각이 지나면 보내지 않음 (없으면 계속 재시도)
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public EmailOutbox(String recipient, String subject, String body, LocalDateTime expiresAt) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.expiresAt = expiresAt;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.claimToken = null;
+        this.lastError = null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    public void markExpired() {
+        this.status = EmailOutboxStatus.EXPIRED;
+        this.claimToken = null;
+    }
+
+    // 실패 : maxAttempts 번째 실패면 더 이상 보내지 않고, 아니면 backoff 뒤에 다시 발송
+    // 다음 시도 전에 유효 기간이 끝나면 재시도하지 않고 EXPIRED
+    public void markFailed(String error, LocalDateTime now, Duration backoff, int maxAttempts) {
+        this.attempts++;
+        this.claimToken = null;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH)
+            : error;
+
+        if (attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+        } else if (isExpired(now.plus(backoff))) {
+            this.status = EmailOutboxStatus.EXPIRED;
+        } else {
+            this.nextAttemptAt = now.plus(backoff);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.cho.board.email.entity;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED,
+    // 보내기 전에 내용(인증 코드 등)의 유효 기간이 지나 버림
+    EXPIRED
+}
@@ -0,0 +1,44 @@
+package com.cho.board.email.repository;
+
+import com.cho.board.email.entity.EmailOutbox;
+import com.cho.board.email.entity.EmailOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송할 차례가 된 메일 (오래 기다린 순)
+    @Query("SELECT e.id FROM EmailOutbox e "
+        + "WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<Long> findDueIds(
+        @Param("status") EmailOutboxStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable);
+
+    // 선점 : 조회 후 다른 발송기가 먼저 가져간 메일은 조건에 맞지 않아 제외됨
+    // 발송기가 중간에 멈춰도 leaseUntil 이 지나면 다시 발송 대상이 됨
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.claimToken = :token, e.nextAttemptAt = :leaseUntil "
+        + "WHERE e.id IN :ids AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(
+        @Param("ids") Collection<Long> ids,
+        @Param("token") String token,
+        @Param("status") EmailOutboxStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<EmailOutbox> findByClaimToken(String claimToken);
+
+    // 처리가 끝난(발송 완료/최종 실패/만료) 후 보관 기간이 지난 메일 삭제
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status IN :statuses AND e.createdAt < :before")
+    int deleteFinishedBefore(
+        @Param("statuses") Collection<EmailOutboxStatus> statuses,
+        @Param("before") LocalDateTime before);
+}
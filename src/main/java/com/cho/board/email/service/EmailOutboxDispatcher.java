@@ -0,0 +1,230 @@
+package com.cho.board.email.service;
+
+import com.cho.board.email.entity.EmailOutbox;
+import com.cho.board.email.entity.EmailOutboxStatus;
+import com.cho.board.email.repository.EmailOutboxRepository;
+import com.cho.board.global.config.EmailOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 메일 발송 대기열(email_outbox)을 주기적으로 비우는 발송기
+// 1. 발송할 메일을 batch-size 만큼 선점 (짧은 트랜잭션)
+// 2. 트랜잭션 밖에서 SMTP 연결 하나로 묶어서 발송 (메일마다 연결/인증하지 않음)
+// 3. 메일별 결과 기록 : 성공은 SENT, 실패는 지수 백오프 후 재시도, max-attempts 번 실패하면 FAILED
+//    유효 기간(expires_at)이 지난 메일은 보내지 않고, 재시도 전에 지나면 재시도하지 않음 (EXPIRED)
+// 발송 후 결과 기록 전에 멈추면 선점 만료 후 다시 보내므로 같은 메일이 두 번 갈 수는 있어도 유실되지는 않음
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "email.outbox", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    // 정리 대상 (더 이상 보내지 않는 메일)
+    private static final List<EmailOutboxStatus> FINISHED = List.of(
+        EmailOutboxStatus.SENT, EmailOutboxStatus.FAILED, EmailOutboxStatus.EXPIRED);
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailOutboxProperties properties;
+    private final String fromEmail;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter expired;
+
+    public EmailOutboxDispatcher(
+        EmailOutboxRepository outboxRepository,
+        JavaMailSender mailSender,
+        TransactionTemplate transactionTemplate,
+        EmailOutboxProperties properties,
+        @Value("${spring.mail.username}") String fromEmail,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.fromEmail = fromEmail;
+        this.sent = counter(meterRegistry, "sent");
+        this.retried = counter(meterRegistry, "retry");
+        this.failed = counter(meterRegistry, "failed");
+        this.expired = counter(meterRegistry, "expired");
+    }
+
+    // 가져온 배치가 가득 차 있으면 대기열이 빌 때까지 이어서 발송
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        while (true) {
+            String token = UUID.randomUUID().toString();
+            List<EmailOutbox> batch = claim(token);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // 선점하는 동안 유효 기간이 지난 메일(만료된 인증 코드 등)은 보내지 않음
+            LocalDateTime now = LocalDateTime.now();
+            Set<Long> expiredIds = batch.stream()
+                .filter(outbox -> outbox.isExpired(now))
+                .map(EmailOutbox::getId)
+                .collect(Collectors.toSet());
+            List<EmailOutbox> deliverable = batch.stream()
+                .filter(outbox -> !expiredIds.contains(outbox.getId()))
+                .toList();
+
+            record(token, expiredIds, deliverable.isEmpty() ? Map.of() : send(deliverable));
+
+            if (batch.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    // 처리가 끝난(발송 완료/최종 실패/만료) 후 보관 기간이 지난 메일 삭제
+    @Scheduled(cron = "${email.outbox.cleanup-cron:0 30 3 * * *}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        Integer deleted = transactionTemplate.execute(status ->
+            outboxRepository.deleteFinishedBefore(FINISHED, before));
+        if (deleted != null && deleted > 0) {
+            log.info("처리가 끝난 메일 {}개 삭제 완료: {}", deleted, before);
+        }
+    }
+
+    private List<EmailOutbox> claim(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = outboxRepository.findDueIds(EmailOutboxStatus.PENDING, now,
+                PageRequest.of(0, properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxRepository.claim(ids, token, EmailOutboxStatus.PENDING, now,
+                now.plus(properties.getLease()));
+            return outboxRepository.findByClaimToken(token);
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    // 메일 id -> 실패 사유 (전부 성공하면 빈 Map)
+    private Map<Long, String> send(List<EmailOutbox> batch) {
+        // SimpleMailMessage 는 내용이 같으면 equals 이므로 객체 기준으로 원래 메일을 찾음
+        Map<SimpleMailMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        batch.forEach(outbox -> messages.put(toMessage(outbox), outbox));
+
+        try {
+            mailSender.send(messages.keySet().toArray(SimpleMailMessage[]::new));
+            return Map.of();
+        } catch (MailSendException e) {
+            // 메일별 실패 목록 (연결 실패면 전부 들어 있음)
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                return allFailed(batch, e);
+            }
+            Map<Long, String> failures = new HashMap<>();
+            failedMessages.forEach((message, cause) -> {
+                EmailOutbox outbox = messages.get(message);
+                if (outbox != null) {
+                    failures.put(outbox.getId(), describe(cause));
+                }
+            });
+            return failures;
+        } catch (MailException e) {
+            // 인증 실패 등 배치 전체 실패
+            return allFailed(batch, e);
+        }
+    }
+
+    private void record(String token, Set<Long> expiredIds, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (EmailOutbox outbox : outboxRepository.findByClaimToken(token)) {
+                if (expiredIds.contains(outbox.getId())) {
+                    outbox.markExpired();
+                    expired.increment();
+                    log.warn("유효 기간이 지나 메일을 보내지 않음: id={}", outbox.getId());
+                    continue;
+                }
+
+                String error = failures.get(outbox.getId());
+                if (error == null) {
+                    outbox.markSent(now);
+                    sent.increment();
+                    continue;
+                }
+
+                outbox.markFailed(error, now, backoff(outbox.getAttempts() + 1),
+                    properties.getMaxAttempts());
+                if (outbox.getStatus() == EmailOutboxStatus.FAILED) {
+                    failed.increment();
+                    log.error("메일 발송 최종 실패 ({}회): id={}, {}", outbox.getAttempts(),
+                        outbox.getId(), error);
+                } else if (outbox.getStatus() == EmailOutboxStatus.EXPIRED) {
+                    expired.increment();
+                    log.warn("메일 발송 실패, 재시도 전에 유효 기간이 지나 중단: id={}, {}",
+                        outbox.getId(), error);
+                } else {
+                    retried.increment();
+                    log.warn("메일 발송 실패, {} 에 재시도: id={}, {}", outbox.getNextAttemptAt(),
+                        outbox.getId(), error);
+                }
+            }
+        });
+    }
+
+    // initial-backoff * 2^(attempt - 1), 최대 max-backoff
+    Duration backoff(int attempt) {
+        Duration backoff = properties.getInitialBackoff()
+            .multipliedBy(1L << Math.min(Math.max(attempt - 1, 0), 20));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0
+            ? properties.getMaxBackoff()
+            : backoff;
+    }
+
+    private SimpleMailMessage toMessage(EmailOutbox outbox) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromEmail);
+        message.setTo(outbox.getRecipient());
+        message.setSubject(outbox.getSubject());
+        message.setText(outbox.getBody());
+        return message;
+    }
+
+    private static Map<Long, String> allFailed(List<EmailOutbox> batch, Exception cause) {
+        String error = describe(cause);
+        Map<Long, String> failures = new HashMap<>();
+        batch.forEach(outbox -> failures.put(outbox.getId(), error));
+        return failures;
+    }
+
+    private static String describe(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("email.outbox.dispatched")
+            .description("메일 발송 시도 결과 수")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -1,6 +1,8 @@
 package com.cho.board.email.service;
 
+import com.cho.board.email.entity.EmailOutbox;
 import com.cho.board.email.entity.EmailVerification;
+import com.cho.board.email.repository.EmailOutboxRepository;
 import com.cho.board.email.repository.EmailVerificationRepository;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -8,22 +10,17 @@ import java.util.Optional;
 import java.util.Random;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Transactional
 public class EmailService {
 
-    private final JavaMailSender mailSender;
     private final EmailVerificationRepository verificationRepository;
-
-    @Value("${spring.mail.username}")
-    private String fromEmail;
+    private final EmailOutboxRepository outboxRepository;
 
     // 1. 동기 검증 (예외 발생 가능)
     public void validateAndPrepareVerification(String toEmail) {
@@ -61,19 +58,13 @@ public class EmailService {
             .build();
         verificationRepository.save(verification);
 
-        // 비동기 발송 호출
-        sendVerificationEmailAsync(toEmail, code);
-    }
-
-    // 2. 비동기 이메일 전송
-    @Async
-    public void sendVerificationEmailAsync(String toEmail, String code) {
-        try {
-            sendEmail(toEmail, "이메일 인증 코드", "인증 코드: " + code + "\n유효시간: 10분");
-        } catch (Exception e) {
-            log.error("이메일 전송 실패: {}, 코드: {}", toEmail, code, e);
-            // 실패해도 DB 에는 저장되어 있음 -> 재발송 가능
-        }
+        // 5. 발송 대기열에 같은 트랜잭션으로 저장 (발송은 EmailOutboxDispatcher 가 재시도까지 담당)
+        outboxRepository.save(EmailOutbox.builder()
+            .recipient(toEmail)
+            .subject("이메일 인증 코드")
+            .body("인증 코드: " + code + "\n유효시간: 10분")
+            .expiresAt(expiryDate)
+            .build());
     }
 
 
@@ -81,16 +72,6 @@ public class EmailService {
         return String.valueOf(100000 + new Random().nextInt(900000));
     }
 
-    private void sendEmail(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setFrom(fromEmail);
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-
-        mailSender.send(message);
-    }
-
     public void verifyEmail(String email, String code) {
         EmailVerification verification = verificationRepository
             .findByEmailAndVerificationCodeAndVerifiedFalse(email, code)
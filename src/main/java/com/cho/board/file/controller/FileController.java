@@ -1,20 +1,17 @@
 package com.cho.board.file.controller;
 
 import com.cho.board.file.service.FileService;
+import com.cho.board.file.service.StaticFileService;
 import com.cho.board.global.response.ApiResponse;
-import com.cho.board.global.util.FileStorageUtil;
 import com.cho.board.post.dtos.PostImageResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -32,7 +29,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileController {
 
     private final FileService fileService;
-    private final FileStorageUtil fileStorageUtil;
+    private final StaticFileService staticFileService;
 
     // Post 작성 전 파일 먼저 업로드
     // editor 에서 drag & drop 지원
@@ -44,7 +41,7 @@ public class FileController {
 
         Map<String, String> data = new HashMap<>();
         data.put("filename", filename);
-        data.put("url", "/uploads/posts/" + filename);
+        data.put("url", "/files/images/" + filename);
 
         return ResponseEntity.ok(ApiResponse.success(
             data,
@@ -82,26 +79,13 @@ public class FileController {
     }
 
     // 이미지 파일 다운로드 (or 브라우저에서 보기)
+    // Range / 조건부 요청(ETag, Last-Modified) 지원, 본문은 sendfile 또는 transferTo 로 전송
     @GetMapping("/images/{filename:.+}")
-    public ResponseEntity<Resource> serveFile(@PathVariable String filename) {
-        Resource resource = fileStorageUtil.loadFileAsResource(filename);
+    public void serveFile(
+        @PathVariable String filename,
+        HttpServletRequest request,
+        HttpServletResponse response) throws IOException {
 
-        String contentType = "application/octet-stream";
-        try {
-            contentType = Files.probeContentType(Paths.get(resource.getFilename()));
-            if (contentType == null) {
-                contentType = "application/octet-stream";
-            }
-        } catch (IOException e) {
-            log.warn("Content-Type 감지 실패, 기본 값 사용: {}", filename);
-        }
-
-        return ResponseEntity.ok()
-            .contentType(MediaType.parseMediaType(contentType))
-            .header(HttpHeaders.CONTENT_DISPOSITION,
-                "inline; filename=\"" + resource.getFilename() + "\"")
-            .body(resource);
+        staticFileService.serve(filename, request, response);
     }
-
-
 }
@@ -0,0 +1,57 @@
+package com.cho.board.file.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 내용 주소 저장소의 파일 1개 ({sha256}.{ext}) 와 참조 수
+// PostImage.filePath, User.profileImage 가 같은 파일명을 가리키는 수만큼 refCount 가 올라간다
+// 생성/증가는 StoredFileRepository.register 의 upsert 로만 처리
+@Entity
+@Table(name = "stored_files")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 80)
+    private String filename;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 참조 없이 업로드(작성 전 임시 업로드)된 마지막 시각
+    // 업로드 직후 엔티티가 참조하기 전에 다른 참조 해제로 파일이 지워지지 않도록 사용
+    @Column(name = "pending_at")
+    private LocalDateTime pendingAt;
+
+    public void release() {
+        if (refCount > 0) {
+            refCount--;
+        }
+    }
+
+    public boolean isReferenced() {
+        return refCount > 0;
+    }
+
+    public boolean isPendingAfter(LocalDateTime time) {
+        return pendingAt != null && pendingAt.isAfter(time);
+    }
+}
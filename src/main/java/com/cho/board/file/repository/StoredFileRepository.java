@@ -0,0 +1,48 @@
+package com.cho.board.file.repository;
+
+import com.cho.board.file.entity.StoredFile;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    // 업로드 등록 : 처음이면 행 생성, 이미 있으면 참조 수 증가 (행 잠금은 트랜잭션 끝까지 유지)
+    // 참조 없이 올린 업로드(references = 0)는 pending_at 갱신
+    @Modifying
+    @Query(value = "INSERT INTO stored_files (filename, file_size, ref_count, created_at, pending_at) "
+        + "VALUES (:filename, :fileSize, :references, :storedAt, "
+        + "CASE WHEN :references = 0 THEN :storedAt END) "
+        + "ON DUPLICATE KEY UPDATE ref_count = ref_count + :references, "
+        + "pending_at = CASE WHEN :references = 0 THEN :storedAt ELSE pending_at END",
+        nativeQuery = true)
+    int register(
+        @Param("filename") String filename,
+        @Param("fileSize") long fileSize,
+        @Param("references") long references,
+        @Param("storedAt") LocalDateTime storedAt);
+
+    // 참조 수 원자적 증감 (이전 방식 파일처럼 행이 없으면 0 건)
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount + :delta WHERE f.filename = :filename")
+    int adjustRefCount(@Param("filename") String filename, @Param("delta") long delta);
+
+    // 참조 해제 시 같은 파일의 등록/해제와 겹치지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM StoredFile f WHERE f.filename = :filename")
+    Optional<StoredFile> findByFilenameForUpdate(@Param("filename") String filename);
+
+    // 주어진 파일명 중 참조 중이거나 유예 기간 안에 업로드된 것
+    @Query("SELECT f.filename FROM StoredFile f WHERE f.filename IN :filenames "
+        + "AND (f.refCount > 0 OR f.pendingAt > :cutoff)")
+    List<String> findLiveFilenames(
+        @Param("filenames") Collection<String> filenames,
+        @Param("cutoff") LocalDateTime cutoff);
+}
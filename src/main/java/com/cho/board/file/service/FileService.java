@@ -1,23 +1,42 @@
 package com.cho.board.file.service;
 
+import static com.cho.board.global.constants.FileConstants.MAX_POST_IMAGES;
+
+import com.cho.board.file.entity.StoredFile;
+import com.cho.board.file.repository.StoredFileRepository;
 import com.cho.board.global.exception.ErrorCode;
 import com.cho.board.global.exception.FileStorageException;
 import com.cho.board.global.exception.ResourceNotFoundException;
 import com.cho.board.global.exception.UnauthorizedException;
 import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.global.util.FileStorageUtil.StagedFile;
 import com.cho.board.post.dtos.PostImageResponse;
 import com.cho.board.post.entity.Post;
 import com.cho.board.post.entity.PostImage;
+import com.cho.board.post.event.PostChangedEvent;
+import com.cho.board.post.event.PostImagesUploadedEvent;
 import com.cho.board.post.repository.PostImageRepository;
 import com.cho.board.post.repository.PostRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -26,58 +45,283 @@ public class FileService {
     private final FileStorageUtil fileStorageUtil;
     private final PostRepository postRepository;
     private final PostImageRepository postImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StaticFileService staticFileService;
+    private final StoredFileRepository storedFileRepository;
+    private final UploadStager uploadStager;
+    private final TransactionTemplate transactionTemplate;
 
-    // 프로필 이미지 업로드
-    @Transactional
+    // 업로드 후 아직 참조되지 않은 파일을 참조 해제만으로 지우지 않는 기간 (이후 정리는 별도 작업)
+    @Value("${file.store.grace-period:1h}")
+    private Duration gracePeriod;
+
+    // 프로필 이미지 업로드 (호출한 쪽에서 바로 User.profileImage 로 참조)
+    // 실패하면 호출한 쪽에서 release 로 참조를 되돌림
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String uploadProfileImage(MultipartFile file) {
-        return fileStorageUtil.storeProfileImage(file);
+        return store(file, 1);
     }
 
-    // 게시글 이미지 업로드
+    // 게시글 이미지 업로드 (작성 전 임시 업로드 - 참조는 이후 acquire)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String uploadPostImage(MultipartFile file) {
-        return fileStorageUtil.storePostImage(file);
+        return store(file, 0);
     }
 
-    // 파일 삭제
-    public void deleteFile(String filename, boolean isProfile) {
-        fileStorageUtil.deleteFile(filename, isProfile);
+    /* 참조 수 관리 */
+
+    // 이미 저장된 파일을 엔티티가 새로 가리키게 된 경우
+    @Transactional
+    public void acquire(String filename) {
+        if (filename != null) {
+            storedFileRepository.adjustRefCount(filename, 1);
+        }
+    }
+
+    // 엔티티가 더 이상 파일을 가리키지 않는 경우 - 마지막 참조였으면 파일(과 축소본) 삭제
+    @Transactional
+    public void release(String filename) {
+        if (filename == null) {
+            return;
+        }
+
+        // 이전 방식(UUID 이름) 파일은 공유되지 않으므로 참조 수 없이 커밋 후 삭제
+        if (!fileStorageUtil.isContentAddressed(filename)) {
+            deleteLegacyAfterCommit(filename);
+            return;
+        }
+
+        StoredFile storedFile = storedFileRepository.findByFilenameForUpdate(filename)
+            .orElse(null);
+        if (storedFile == null) {
+            return;
+        }
+
+        storedFile.release();
+        if (storedFile.isReferenced()
+            || storedFile.isPendingAfter(LocalDateTime.now().minus(gracePeriod))) {
+            return;
+        }
+
+        storedFileRepository.delete(storedFile);
+        deleteAfterCommit(filename);
+    }
+
+    // 저장소 업로드는 트랜잭션 밖에서, DB 반영(행 등록)만 짧은 트랜잭션으로
+    private String store(MultipartFile file, int references) {
+        StagedFile staged = fileStorageUtil.stage(file);
+        List<String> created = new ArrayList<>();
+        try {
+            if (fileStorageUtil.commit(staged)) {
+                created.add(staged.filename());
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (register(staged, references)) {
+                    created.add(staged.filename());
+                }
+            });
+            return staged.filename();
+        } catch (RuntimeException e) {
+            removeCreatedFiles(created);
+            throw e;
+        } finally {
+            fileStorageUtil.discard(staged);
+        }
+    }
+
+    // 같은 내용이 이미 있으면 참조 수만 올림 - 파일은 트랜잭션 전에 commit 으로 올려 둠
+    // 행 잠금을 잡은 뒤 파일이 그대로 있는지 다시 확인하고, 그 사이 다른 요청의 삭제(참조 해제)가
+    // 지웠으면 다시 올림 (다시 만들었으면 true)
+    private boolean register(StagedFile staged, int references) {
+        storedFileRepository.register(staged.filename(), staged.size(), references,
+            LocalDateTime.now());
+        return fileStorageUtil.commit(staged);
+    }
+
+    // 행 잠금 중에 원본을 임시 위치로 옮겨 두고, 커밋되면 삭제 / 롤백되면 되돌림
+    private void deleteAfterCommit(String filename) {
+        String detached = fileStorageUtil.detach(filename);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        evict(fileStorageUtil.deleteWithVariants(filename, detached));
+                    } else {
+                        fileStorageUtil.restore(detached, filename);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("파일 정리 실패 - {}: {}", filename, e.getMessage());
+                }
+            }
+        });
+    }
+
+    // 롤백되면 엔티티가 계속 가리키므로 커밋된 경우에만 삭제
+    private void deleteLegacyAfterCommit(String filename) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    evict(fileStorageUtil.deleteWithVariants(filename, null));
+                } catch (RuntimeException e) {
+                    log.warn("파일 정리 실패 - {}: {}", filename, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void evict(List<String> filenames) {
+        filenames.forEach(staticFileService::evict);
     }
 
     /* 게시글 이미지 */
 
     // 복수 업로드
-    @Transactional
+    // 파일 쓰기와 저장소 업로드는 트랜잭션 밖에서, DB 반영은 짧은 트랜잭션 하나로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<PostImageResponse> uploadPostImages(Long postId, List<MultipartFile> files) {
+        // 파일을 쓰기 전에 먼저 확인 (트랜잭션 안에서 한 번 더 확인)
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
+                "게시글을 찾을 수 없습니다.");
+        }
+        checkImageLimit(postImageRepository.countByPostId(postId), files.size());
+
+        List<StagedFile> staged = uploadStager.stageAll(files);
+        List<String> created = new ArrayList<>();
+        try {
+            for (StagedFile stagedFile : staged) {
+                if (fileStorageUtil.commit(stagedFile)) {
+                    created.add(stagedFile.filename());
+                }
+            }
+            return transactionTemplate.execute(status ->
+                insertPostImages(postId, files, staged, created));
+        } catch (RuntimeException e) {
+            // 보상 처리 : 이번 업로드가 새로 만든 파일 삭제
+            removeCreatedFiles(created);
+            throw e;
+        } finally {
+            staged.forEach(fileStorageUtil::discard);
+        }
+    }
+
+    private List<PostImageResponse> insertPostImages(Long postId, List<MultipartFile> files,
+        List<StagedFile> staged, List<String> created) {
         Post post = postRepository.findById(postId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND
-                ,"게시글을 찾을 수 없습니다."));
+            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
+                "게시글을 찾을 수 없습니다."));
 
         long currentImageCount = postImageRepository.countByPostId(postId);
-        if (currentImageCount + files.size() > 10) {
-            throw new FileStorageException("게시글당 최대 10개의 이미지만 업로드할 수 있습니다.");
-        }
+        checkImageLimit(currentImageCount, files.size());
 
-        List<PostImageResponse> responses = new ArrayList<>();
+        List<PostImage> images = new ArrayList<>(files.size());
         int startOrder = (int) currentImageCount;
 
         for (int i = 0; i < files.size(); i++) {
-            MultipartFile file = files.get(i);
-            String storedFilename = fileStorageUtil.storePostImage(file);
+            StagedFile stagedFile = staged.get(i);
+            if (register(stagedFile, 1)) {
+                created.add(stagedFile.filename());
+            }
 
             PostImage postImage = PostImage.builder()
                 .post(post)
-                .filePath(storedFilename)
-                .originalFilename(file.getOriginalFilename())
-                .fileSize(file.getSize())
+                .filePath(stagedFile.filename())
+                .originalFilename(files.get(i).getOriginalFilename())
+                .fileSize(stagedFile.size())
                 .displayOrder(startOrder + i)
                 .build();
 
             post.addImage(postImage);
-            PostImage saved = postImageRepository.save(postImage);
-            responses.add(PostImageResponse.from(saved));
+            images.add(postImage);
         }
 
-        return responses;
+        List<PostImage> saved = postImageRepository.saveAll(images);
+
+        eventPublisher.publishEvent(PostChangedEvent.imagesChanged(postId));
+        // 커밋 후 썸네일/중간 크기 축소본 생성 (완료 전에는 원본 경로로 응답)
+        eventPublisher.publishEvent(new PostImagesUploadedEvent(postId,
+            saved.stream().map(PostImage::getId).toList()));
+
+        return saved.stream()
+            .map(PostImageResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    // 에디터에서 먼저 올린 이미지(/files/temp)를 게시글에 연결 - 참조 수를 올리고 PostImage 생성
+    // 연결되지 않은 임시 업로드는 유예 기간이 지나면 정리 작업이 삭제
+    @Transactional
+    public void attachPostImages(Post post, List<String> filenames) {
+        if (filenames == null || filenames.isEmpty()) {
+            return;
+        }
+
+        Set<String> attached = post.getImages().stream()
+            .map(PostImage::getFilePath)
+            .collect(Collectors.toSet());
+        List<String> toAttach = filenames.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .filter(filename -> !attached.contains(filename))
+            .toList();
+        if (toAttach.isEmpty()) {
+            return;
+        }
+
+        int currentImageCount = post.getImages().size();
+        checkImageLimit(currentImageCount, toAttach.size());
+
+        List<PostImage> images = new ArrayList<>(toAttach.size());
+        for (int i = 0; i < toAttach.size(); i++) {
+            String filename = toAttach.get(i);
+            // 정리 작업과 겹치지 않도록 잠근 뒤 참조 수 증가
+            StoredFile storedFile = storedFileRepository.findByFilenameForUpdate(filename)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
+                    "업로드된 이미지를 찾을 수 없습니다."));
+            storedFileRepository.adjustRefCount(filename, 1);
+
+            PostImage postImage = PostImage.builder()
+                .post(post)
+                .filePath(filename)
+                .fileSize(storedFile.getFileSize())
+                .displayOrder(currentImageCount + i)
+                .build();
+
+            post.addImage(postImage);
+            images.add(postImage);
+        }
+
+        List<PostImage> saved = postImageRepository.saveAll(images);
+
+        eventPublisher.publishEvent(PostChangedEvent.imagesChanged(post.getId()));
+        eventPublisher.publishEvent(new PostImagesUploadedEvent(post.getId(),
+            saved.stream().map(PostImage::getId).toList()));
+    }
+
+    private void checkImageLimit(long currentImageCount, int uploadCount) {
+        if (currentImageCount + uploadCount > MAX_POST_IMAGES) {
+            throw new FileStorageException("게시글당 최대 10개의 이미지만 업로드할 수 있습니다.");
+        }
+    }
+
+    // 롤백된 업로드가 새로 만든 파일 정리
+    // 그 사이 다른 업로드가 같은 내용을 등록했으면 (stored_files 행이 있으면) 그대로 둔다
+    private void removeCreatedFiles(List<String> created) {
+        for (String filename : created.stream().distinct().toList()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (storedFileRepository.findByFilenameForUpdate(filename).isEmpty()) {
+                        fileStorageUtil.deleteFile(filename);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("업로드 실패 후 파일 정리 실패 - {}: {}", filename, e.getMessage());
+            }
+        }
     }
 
     // 게시글 이미지 삭제
@@ -95,10 +339,12 @@ public class FileService {
             throw new UnauthorizedException("해당 게시글의 이미지가 아닙니다.");
         }
 
-        fileStorageUtil.deleteFile(image.getFilePath());
+        // 같은 내용을 가리키는 다른 이미지/프로필이 없을 때만 파일과 축소본이 삭제됨
+        release(image.getFilePath());
 
         post.removeImage(image);
         postImageRepository.delete(image);
+        eventPublisher.publishEvent(PostChangedEvent.imagesChanged(postId));
     }
 
     // 게시글의 모든 이미지 조회
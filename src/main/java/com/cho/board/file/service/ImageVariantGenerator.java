@@ -0,0 +1,207 @@
+package com.cho.board.file.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 원본 이미지로 썸네일(정사각형 중앙 크롭)과 중간 크기(긴 변 기준 축소) 파일 생성
+// JDK ImageIO 만 사용하며, 읽을 수 없는 형식(webp, heic 등)은 건너뛰고 원본을 그대로 쓰게 한다
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    public static final String THUMBNAIL_SUFFIX = "_thumb";
+    public static final String MEDIUM_SUFFIX = "_medium";
+
+    // 디코딩 폭탄 방지 (약 5000만 픽셀 초과는 처리하지 않음)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final int thumbnailSize;
+    private final int mediumMaxSize;
+
+    public ImageVariantGenerator(
+        @Value("${file.image.thumbnail-size:200}") int thumbnailSize,
+        @Value("${file.image.medium-max-size:800}") int mediumMaxSize
+    ) {
+        this.thumbnailSize = thumbnailSize;
+        this.mediumMaxSize = mediumMaxSize;
+    }
+
+    // outputDirectory 에 축소본을 만들고 파일명을 반환 (처리할 수 없으면 empty)
+    public Optional<ImageVariants> generate(Path original, Path outputDirectory) {
+        BufferedImage source;
+        try {
+            source = read(original);
+        } catch (IOException e) {
+            log.warn("이미지를 읽을 수 없어 축소본을 만들지 않습니다 - {}: {}",
+                original.getFileName(), e.getMessage());
+            return Optional.empty();
+        }
+        if (source == null) {
+            return Optional.empty();
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        String base = baseName(original.getFileName().toString());
+        String extension = alpha ? "png" : "jpg";
+
+        try {
+            String thumbnail = base + THUMBNAIL_SUFFIX + "." + extension;
+            write(cropToSquare(source, thumbnailSize, alpha), outputDirectory.resolve(thumbnail),
+                extension);
+
+            // 원본이 이미 충분히 작으면 중간 크기는 원본으로 대체
+            String medium = null;
+            if (Math.max(source.getWidth(), source.getHeight()) > mediumMaxSize) {
+                medium = base + MEDIUM_SUFFIX + "." + extension;
+                write(fitWithin(source, mediumMaxSize, alpha), outputDirectory.resolve(medium),
+                    extension);
+            }
+            return Optional.of(new ImageVariants(thumbnail, medium));
+        } catch (IOException e) {
+            log.warn("축소본 저장 실패 - {}: {}", original.getFileName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 필요한 크기보다 충분히 큰 원본은 서브샘플링으로 읽어 디코딩 메모리를 줄임
+    private BufferedImage read(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.debug("지원하지 않는 이미지 형식 - {}", path.getFileName());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("이미지가 너무 커서 축소본을 만들지 않습니다 - {} ({}x{})",
+                        path.getFileName(), width, height);
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsampling(width, height);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 읽은 이미지가 두 축소본 모두 목표 크기의 2배 이상을 유지하는 범위에서 건너뛸 픽셀 수
+    private int subsampling(int width, int height) {
+        int byMedium = Math.max(width, height) / (mediumMaxSize * 2);
+        int byThumbnail = Math.min(width, height) / (thumbnailSize * 2);
+        return Math.max(1, Math.min(byMedium, byThumbnail));
+    }
+
+    private BufferedImage cropToSquare(BufferedImage source, int size, boolean alpha) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+        BufferedImage square = source.getSubimage(x, y, side, side);
+        int target = Math.min(size, side);
+        return scale(square, target, target, alpha);
+    }
+
+    private BufferedImage fitWithin(BufferedImage source, int maxSize, boolean alpha) {
+        double ratio = (double) maxSize / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        return scale(source, width, height, alpha);
+    }
+
+    // 한 번에 크게 줄이면 bilinear 보간 품질이 떨어지므로 절반씩 단계적으로 축소
+    private BufferedImage scale(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight, alpha);
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height,
+            alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 임시 파일에 쓴 뒤 이동해서 반쯤 쓰인 파일이 서빙되지 않도록 함
+    private void write(BufferedImage image, Path target, String format) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if ("jpg".equals(format)) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(JPEG_QUALITY);
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String baseName(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+
+    // 생성된 축소본 파일명 (medium 은 원본이 충분히 작으면 null)
+    public record ImageVariants(String thumbnail, String medium) {
+
+    }
+}
@@ -0,0 +1,145 @@
+package com.cho.board.file.service;
+
+import com.cho.board.file.service.ImageVariantGenerator.ImageVariants;
+import com.cho.board.global.config.AsyncConfig;
+import com.cho.board.global.exception.BusinessException;
+import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.post.entity.PostImage;
+import com.cho.board.post.event.PostChangedEvent;
+import com.cho.board.post.event.PostImagesUploadedEvent;
+import com.cho.board.post.repository.PostImageRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+// 업로드가 커밋된 뒤 별도 스레드에서 축소본을 만들고 PostImage 에 기록
+// 파일 생성은 트랜잭션 밖에서 하고, 기록은 짧은 트랜잭션 하나로 처리
+// 원격 저장소면 원본을 작업 디렉토리로 내려받아 처리한 뒤 축소본만 올림
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final FileStorageUtil fileStorageUtil;
+    private final PostImageRepository postImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageVariantProcessor(
+        ImageVariantGenerator imageVariantGenerator,
+        FileStorageUtil fileStorageUtil,
+        PostImageRepository postImageRepository,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.fileStorageUtil = fileStorageUtil;
+        this.postImageRepository = postImageRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async(AsyncConfig.IMAGE_TASK_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImagesUploaded(PostImagesUploadedEvent event) {
+        Map<Long, ImageVariants> generated = new HashMap<>();
+        Path workDirectory;
+        try {
+            workDirectory = Files.createTempDirectory(fileStorageUtil.getTempLocation(),
+                "variants-");
+        } catch (IOException e) {
+            log.warn("축소본 작업 디렉토리를 만들 수 없습니다 - postId: {}, {}", event.postId(),
+                e.getMessage());
+            return;
+        }
+
+        try {
+            for (PostImage image : postImageRepository.findAllById(event.imageIds())) {
+                try {
+                    generate(image.getFilePath(), workDirectory)
+                        .ifPresent(variants -> generated.put(image.getId(), variants));
+                } catch (BusinessException e) {
+                    // 처리 전에 원본이 삭제된 경우
+                    log.debug("축소본 생성 건너뜀 - imageId: {}, {}", image.getId(),
+                        e.getMessage());
+                }
+            }
+        } finally {
+            deleteDirectoryQuietly(workDirectory);
+        }
+
+        if (!generated.isEmpty()) {
+            attach(event.postId(), generated);
+        }
+    }
+
+    // 작업 디렉토리에 축소본을 만든 뒤 원본과 같은 저장소로 옮김
+    private Optional<ImageVariants> generate(String filename, Path workDirectory) {
+        Optional<ImageVariants> variants = fileStorageUtil.readLocally(filename,
+            original -> imageVariantGenerator.generate(original, workDirectory));
+        variants.ifPresent(generated -> {
+            fileStorageUtil.storeVariant(filename, generated.thumbnail(),
+                workDirectory.resolve(generated.thumbnail()));
+            if (generated.medium() != null) {
+                fileStorageUtil.storeVariant(filename, generated.medium(),
+                    workDirectory.resolve(generated.medium()));
+            }
+        });
+        return variants;
+    }
+
+    private void attach(Long postId, Map<Long, ImageVariants> generated) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, PostImage> images = new HashMap<>();
+            postImageRepository.findAllById(generated.keySet())
+                .forEach(image -> images.put(image.getId(), image));
+
+            generated.forEach((imageId, variants) -> {
+                PostImage image = images.get(imageId);
+                if (image != null) {
+                    image.attachVariants(variants.thumbnail(), variants.medium());
+                } else {
+                    // 생성하는 동안 이미지가 삭제됨 - 남은 축소본 정리
+                    deleteQuietly(variants.thumbnail());
+                    deleteQuietly(variants.medium());
+                }
+            });
+
+            // 목록/상세 캐시가 축소본 경로를 다시 읽도록
+            eventPublisher.publishEvent(PostChangedEvent.imagesChanged(postId));
+        });
+        log.debug("축소본 생성 완료 - postId: {}, 이미지: {}건", postId, generated.size());
+    }
+
+    private static void deleteDirectoryQuietly(Path directory) {
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("축소본 작업 디렉토리 삭제 실패 - {}: {}", directory, e.getMessage());
+        }
+    }
+
+    // 내용 주소 파일의 축소본은 같은 내용의 다른 이미지와 공유되므로 원본이 삭제될 때 함께 정리됨
+    private void deleteQuietly(String filename) {
+        if (filename == null || fileStorageUtil.isContentAddressed(filename)) {
+            return;
+        }
+        try {
+            fileStorageUtil.deleteFile(filename);
+        } catch (BusinessException e) {
+            log.warn("축소본 삭제 실패 - {}: {}", filename, e.getMessage());
+        }
+    }
+}
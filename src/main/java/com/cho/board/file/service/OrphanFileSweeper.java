@@ -0,0 +1,258 @@
+package com.cho.board.file.service;
+
+import com.cho.board.file.entity.StoredFile;
+import com.cho.board.file.repository.StoredFileRepository;
+import com.cho.board.global.exception.BusinessException;
+import com.cho.board.global.storage.StorageBackend;
+import com.cho.board.global.storage.StorageObject;
+import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.post.repository.PostImageRepository;
+import com.cho.board.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 어디에서도 참조하지 않는 업로드 파일 정리 (게시글에 붙지 않은 /files/temp 업로드, 실패한 업로드의 잔여 파일 등)
+// 저장 위치를 작업 단위(이전 방식 디렉토리, 임시 디렉토리, 저장소의 1단계 해시 경로)로 나눠
+// 실행마다 일부만 훑고 다음 실행에서 이어서 처리한다
+@Slf4j
+@Component
+public class OrphanFileSweeper {
+
+    private static final Pattern VARIANT_NAME = Pattern.compile(
+        "^(.+)(" + ImageVariantGenerator.THUMBNAIL_SUFFIX + "|"
+            + ImageVariantGenerator.MEDIUM_SUFFIX + ")\\.[A-Za-z0-9]+$");
+
+    private final FileStorageUtil fileStorageUtil;
+    private final StoredFileRepository storedFileRepository;
+    private final PostImageRepository postImageRepository;
+    private final UserRepository userRepository;
+    private final StaticFileService staticFileService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final int unitsPerRun;
+
+    private final Counter reclaimedBytes;
+    private final Counter deletedFiles;
+
+    // 다음 실행을 시작할 작업 단위 위치 (스케줄러 스레드에서만 접근)
+    private int cursor;
+
+    public OrphanFileSweeper(
+        FileStorageUtil fileStorageUtil,
+        StoredFileRepository storedFileRepository,
+        PostImageRepository postImageRepository,
+        UserRepository userRepository,
+        StaticFileService staticFileService,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${file.store.grace-period:1h}") Duration gracePeriod,
+        @Value("${file.orphan.batch-size:500}") int batchSize,
+        @Value("${file.orphan.units-per-run:32}") int unitsPerRun
+    ) {
+        this.fileStorageUtil = fileStorageUtil;
+        this.storedFileRepository = storedFileRepository;
+        this.postImageRepository = postImageRepository;
+        this.userRepository = userRepository;
+        this.staticFileService = staticFileService;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = batchSize;
+        this.unitsPerRun = unitsPerRun;
+        this.reclaimedBytes = Counter.builder("file.orphan.reclaimed")
+            .baseUnit("bytes")
+            .description("정리 작업으로 회수한 디스크 용량")
+            .register(meterRegistry);
+        this.deletedFiles = Counter.builder("file.orphan.deleted")
+            .description("정리 작업으로 삭제한 파일 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${file.orphan.sweep-cron:0 */10 * * * *}")
+    public void sweep() {
+        List<SweepUnit> units = listUnits();
+
+        // 유예 기간 안의 파일은 아직 DB 반영 전인 업로드일 수 있으므로 건드리지 않음
+        Instant fileCutoff = Instant.now().minus(gracePeriod);
+        LocalDateTime pendingCutoff = LocalDateTime.now().minus(gracePeriod);
+
+        int count = Math.min(unitsPerRun, units.size());
+        long files = 0;
+        long bytes = 0;
+        for (int i = 0; i < count; i++) {
+            SweepUnit unit = units.get((cursor + i) % units.size());
+            try {
+                long[] result = sweep(unit, fileCutoff, pendingCutoff);
+                files += result[0];
+                bytes += result[1];
+            } catch (BusinessException e) {
+                log.warn("파일 정리 중 저장소를 읽을 수 없습니다 - {} '{}': {}",
+                    unit.kind(), unit.prefix(), e.getMessage());
+            }
+        }
+        cursor = (cursor + count) % units.size();
+
+        if (files > 0) {
+            log.info("참조 없는 파일 정리 - {}건, {} bytes", files, bytes);
+        }
+    }
+
+    // 작업 단위 목록 : 이전 방식 디렉토리, 임시 디렉토리, 삭제 대기 경로, 저장소의 1단계 해시 경로(00/ ~ ff/)
+    // 해시 경로는 고정이므로 로컬/원격 저장소 모두 디렉토리 목록을 따로 읽지 않음
+    private List<SweepUnit> listUnits() {
+        List<SweepUnit> units = new ArrayList<>();
+        fileStorageUtil.getLegacyBackends()
+            .forEach(backend -> units.add(new SweepUnit(backend, "", Kind.LEGACY)));
+        units.add(new SweepUnit(fileStorageUtil.getTempBackend(), "", Kind.TEMP));
+
+        StorageBackend contentBackend = fileStorageUtil.getContentBackend();
+        units.add(new SweepUnit(contentBackend, FileStorageUtil.TRASH_PREFIX, Kind.TEMP));
+        for (int shard = 0; shard < 256; shard++) {
+            units.add(new SweepUnit(contentBackend, String.format("%02x/", shard), Kind.STORE));
+        }
+        return units;
+    }
+
+    // {삭제 건수, 삭제 bytes}
+    private long[] sweep(SweepUnit unit, Instant fileCutoff, LocalDateTime pendingCutoff) {
+        long[] total = new long[2];
+        List<StorageObject> batch = new ArrayList<>(batchSize);
+
+        unit.backend().list(unit.prefix(), object -> {
+            if (!object.lastModified().isBefore(fileCutoff)) {
+                return;
+            }
+            batch.add(object);
+            if (batch.size() >= batchSize) {
+                add(total, process(unit, batch, pendingCutoff));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            add(total, process(unit, batch, pendingCutoff));
+        }
+        return total;
+    }
+
+    private long[] process(SweepUnit unit, List<StorageObject> batch,
+        LocalDateTime pendingCutoff) {
+        long[] result = new long[2];
+
+        // 임시 디렉토리/삭제 대기 경로에 남은 파일은 중단된 업로드/삭제의 잔여물
+        if (unit.kind() == Kind.TEMP) {
+            batch.forEach(object -> deleteFile(unit.backend(), object, result));
+            return result;
+        }
+
+        // 축소본은 원본이 남아 있으면 원본과 함께 삭제되므로 원본이 없는 것만 정리
+        List<StorageObject> originals = new ArrayList<>();
+        for (StorageObject object : batch) {
+            Matcher variant = VARIANT_NAME.matcher(object.key());
+            if (!variant.matches()) {
+                originals.add(object);
+            } else if (!hasOriginal(unit.backend(), variant.group(1))) {
+                deleteFile(unit.backend(), object, result);
+            }
+        }
+        if (originals.isEmpty()) {
+            return result;
+        }
+
+        Set<String> referenced = referencedNames(
+            originals.stream().map(StorageObject::filename).toList(), pendingCutoff);
+        for (StorageObject object : originals) {
+            if (referenced.contains(object.filename())) {
+                continue;
+            }
+            if (fileStorageUtil.isContentAddressed(object.filename())) {
+                deleteContentAddressed(unit.backend(), object, pendingCutoff, result);
+            } else {
+                deleteFile(unit.backend(), object, result);
+            }
+        }
+        return result;
+    }
+
+    // 배치 단위로 쿼리 세 번 (stored_files 참조 수 + 게시글 이미지 + 프로필 이미지)
+    private Set<String> referencedNames(List<String> filenames, LocalDateTime pendingCutoff) {
+        Set<String> referenced = new HashSet<>(
+            storedFileRepository.findLiveFilenames(filenames, pendingCutoff));
+        referenced.addAll(postImageRepository.findReferencedFilePaths(filenames));
+        referenced.addAll(userRepository.findReferencedProfileImages(filenames));
+        return referenced;
+    }
+
+    // 같은 내용의 업로드 등록과 겹치지 않도록 stored_files 행을 잠근 상태에서 다시 확인 후 삭제
+    private void deleteContentAddressed(StorageBackend backend, StorageObject object,
+        LocalDateTime pendingCutoff, long[] result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<StoredFile> storedFile =
+                storedFileRepository.findByFilenameForUpdate(object.filename());
+            if (storedFile.isPresent() && (storedFile.get().isReferenced()
+                || storedFile.get().isPendingAfter(pendingCutoff))) {
+                return;
+            }
+            storedFile.ifPresent(storedFileRepository::delete);
+            deleteFile(backend, object, result);
+        });
+    }
+
+    // 같은 경로에 {base}.* 가 있는지 (key 기준이라 로컬/원격 저장소 모두 같은 방식)
+    private boolean hasOriginal(StorageBackend backend, String baseKey) {
+        boolean[] found = new boolean[1];
+        try {
+            backend.list(baseKey + ".", object -> found[0] = true);
+            return found[0];
+        } catch (BusinessException e) {
+            // 확인할 수 없으면 남겨 둠
+            return true;
+        }
+    }
+
+    private void deleteFile(StorageBackend backend, StorageObject object, long[] result) {
+        try {
+            backend.delete(object.key());
+            staticFileService.evict(object.filename());
+            deletedFiles.increment();
+            reclaimedBytes.increment(object.size());
+            result[0]++;
+            result[1] += object.size();
+        } catch (BusinessException e) {
+            log.warn("파일 삭제 실패 - {}: {}", object.key(), e.getMessage());
+        }
+    }
+
+    private static void add(long[] total, long[] result) {
+        total[0] += result[0];
+        total[1] += result[1];
+    }
+
+    private enum Kind {
+        // 이전 방식(UUID 이름) 디렉토리
+        LEGACY,
+        // 내용 주소 저장소의 1단계 해시 경로
+        STORE,
+        // 업로드/삭제 중 쓰는 임시 디렉토리, 삭제 대기 경로
+        TEMP
+    }
+
+    private record SweepUnit(StorageBackend backend, String prefix, Kind kind) {
+
+    }
+}
@@ -0,0 +1,227 @@
+package com.cho.board.file.service;
+
+import com.cho.board.global.exception.ErrorCode;
+import com.cho.board.global.exception.FileStorageException;
+import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.storage.StorageObject;
+import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.global.util.FileStorageUtil.StoredLocation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+// 업로드 파일 정적 서빙
+// 파일 위치/Content-Type/ETag 를 메모리에 캐시하고, 본문은 로컬 파일이면 sendfile(지원 시) 또는 FileChannel.transferTo,
+// 원격 저장소면 해당 구간만 받아 그대로 전송
+@Service
+public class StaticFileService {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 작은 파일은 sendfile 준비 비용이 더 커서 일반 전송 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    // 저장 시 UUID 또는 내용 해시로 이름을 붙인 파일(과 그 축소본)은 내용이 바뀌지 않으므로 오래 캐시
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+        "^([0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}|[0-9a-f]{64})"
+            + "(_thumb|_medium)?\\.[A-Za-z0-9]+$");
+    private static final String IMMUTABLE_CACHE_CONTROL =
+        CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE_CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+
+    private final FileStorageUtil fileStorageUtil;
+    private final Cache<String, FileMetadata> metadataCache = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+
+    public StaticFileService(FileStorageUtil fileStorageUtil) {
+        this.fileStorageUtil = fileStorageUtil;
+    }
+
+    public void serve(String filename, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        FileMetadata metadata = metadataCache.get(filename, this::loadMetadata);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_NAME.matcher(filename).matches()
+            ? IMMUTABLE_CACHE_CONTROL
+            : REVALIDATE_CACHE_CONTROL);
+
+        // If-None-Match / If-Modified-Since 일치 시 304 (ETag, Last-Modified 헤더도 함께 설정됨)
+        if (new ServletWebRequest(request, response)
+            .checkNotModified(metadata.etag(), metadata.lastModified())) {
+            return;
+        }
+
+        long length = metadata.length();
+        long start = 0;
+        long end = length - 1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, metadata)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                // 다중 구간(multipart/byteranges)은 지원하지 않고 전체를 보냄
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(metadata.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.inline().filename(filename).build().toString());
+        response.setContentLengthLong(count);
+
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        Path path = metadata.location().backend().localPath(metadata.location().key())
+            .orElse(null);
+        if (path == null) {
+            transfer(filename, metadata.location(), start, count, response);
+            return;
+        }
+
+        // 커넥터가 sendfile 을 지원하면 Tomcat 이 커널에서 직접 소켓으로 전송
+        if (count >= SENDFILE_MIN_SIZE
+            && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        transfer(filename, path, start, count, response);
+    }
+
+    // 파일이 삭제/교체되면 호출
+    public void evict(String filename) {
+        metadataCache.invalidate(filename);
+    }
+
+    private void transfer(String filename, Path path, long start, long count,
+        HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (NoSuchFileException e) {
+            evict(filename);
+            throw new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
+                "파일을 찾을 수 없습니다. : " + filename);
+        }
+    }
+
+    private void transfer(String filename, StoredLocation location, long start, long count,
+        HttpServletResponse response) throws IOException {
+        try {
+            location.backend().stream(location.key(), start, count, response.getOutputStream());
+        } catch (ResourceNotFoundException e) {
+            evict(filename);
+            throw e;
+        }
+    }
+
+    // If-Range 가 있으면 현재 ETag 와 같을 때만 부분 응답
+    private boolean ifRangeMatches(HttpServletRequest request, FileMetadata metadata) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(metadata.etag());
+    }
+
+    private FileMetadata loadMetadata(String filename) {
+        StoredLocation location = fileStorageUtil.resolveStoredFile(filename);
+        StorageObject object = location.object();
+        String contentType = MediaTypeFactory.getMediaType(filename)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM)
+            .toString();
+        return new FileMetadata(
+            location,
+            contentType,
+            object.size(),
+            object.lastModified().toEpochMilli(),
+            etag(filename, location));
+    }
+
+    // 저장소가 ETag 를 주면 그대로 쓰고, 아니면 내용 기반으로 계산 (파일당 최초 한 번 계산 후 캐시)
+    private static String etag(String filename, StoredLocation location) {
+        String etag = location.object().etag();
+        if (etag != null) {
+            return etag.startsWith("\"") ? etag : "\"" + etag + "\"";
+        }
+        try (DigestInputStream in = new DigestInputStream(
+            location.backend().get(location.key()), MessageDigest.getInstance("SHA-256"))) {
+            byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // 다 읽으면서 다이제스트 갱신
+            }
+            byte[] digest = in.getMessageDigest().digest();
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (IOException e) {
+            throw new FileStorageException("파일 정보를 읽을 수 없습니다: " + filename, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record FileMetadata(
+        StoredLocation location,
+        String contentType,
+        long length,
+        long lastModified,
+        String etag
+    ) {
+
+    }
+}
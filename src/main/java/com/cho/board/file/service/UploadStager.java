@@ -0,0 +1,57 @@
+package com.cho.board.file.service;
+
+import com.cho.board.global.config.AsyncConfig;
+import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.global.util.FileStorageUtil.StagedFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+// 여러 업로드 파일의 검증 + 임시 파일 쓰기(해시 계산 포함)를 파일 I/O 전용 스레드에서 동시에 처리
+// 트랜잭션 밖에서 호출해 디스크 I/O 동안 DB 커넥션을 잡지 않도록 한다
+@Component
+public class UploadStager {
+
+    private final FileStorageUtil fileStorageUtil;
+    private final Executor fileIoExecutor;
+
+    public UploadStager(
+        FileStorageUtil fileStorageUtil,
+        @Qualifier(AsyncConfig.FILE_IO_EXECUTOR) Executor fileIoExecutor
+    ) {
+        this.fileStorageUtil = fileStorageUtil;
+        this.fileIoExecutor = fileIoExecutor;
+    }
+
+    // 입력 순서대로 반환, 하나라도 실패하면 나머지 임시 파일을 지우고 첫 번째 예외를 던짐
+    public List<StagedFile> stageAll(List<MultipartFile> files) {
+        List<CompletableFuture<StagedFile>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> fileStorageUtil.stage(file),
+                fileIoExecutor));
+        }
+
+        List<StagedFile> staged = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<StagedFile> future : futures) {
+            try {
+                staged.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            staged.forEach(fileStorageUtil::discard);
+            throw failure;
+        }
+        return staged;
+    }
+}
@@ -2,18 +2,42 @@ package com.cho.board.global.config;
 
 import com.cho.board.global.exception.AsyncExceptionHandler;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    public static final String IMAGE_TASK_EXECUTOR = "imageTaskExecutor";
+    public static final String FILE_IO_EXECUTOR = "fileIoExecutor";
+    public static final String PASSWORD_HASH_EXECUTOR = "passwordHashExecutor";
+
+    // 가상 스레드 모드 (spring.threads.virtual.enabled - Tomcat 요청 처리도 함께 전환됨)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 가상 스레드 모드의 @Async 동시 실행 수 (넘으면 제출한 스레드가 자리가 날 때까지 기다림)
+    @Value("${async.virtual-concurrency-limit:20}")
+    private int virtualConcurrencyLimit;
+
     @Override
     public Executor getAsyncExecutor() {
+        // 검색 색인 등 블로킹 I/O 위주라 풀 크기 대신 동시 실행 수만 제한
+        if (virtualThreads) {
+            return virtualThreadExecutor("async-", virtualConcurrencyLimit);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2); // 기본 스레드 수
         executor.setMaxPoolSize(5);
@@ -24,6 +48,58 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    // 이미지 축소본 생성 전용 (CPU 를 많이 쓰므로 다른 비동기 작업과 분리하고 동시 실행 수 제한)
+    // 큐가 가득 차면 버림 - 축소본이 없어도 원본으로 대체되므로 업로드 요청을 막지 않는다
+    // CPU 작업이라 가상 스레드 모드에서도 플랫폼 스레드 풀 유지
+    @Bean(name = IMAGE_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor imageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+            log.warn("이미지 처리 대기열이 가득 차 작업을 건너뜁니다 - 대기: {}", pool.getQueue().size()));
+        return executor;
+    }
+
+    // 업로드 파일 동시 저장, 비밀번호 해시 후 DB 반영 등 블로킹 I/O 용 (I/O 대기 위주라 코어 수보다 넉넉하게)
+    // 큐가 가득 차면 제출한 스레드에서 직접 처리해 작업이 실패하지 않도록 한다
+    @Bean(name = FILE_IO_EXECUTOR)
+    public TaskExecutor fileIoExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("file-io-", 8);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("file-io-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 비밀번호 해시 전용 (BCrypt 는 CPU 작업이라 설정한 스레드 수만큼만 동시에 계산)
+    // 대기열이 가득 차면 TaskRejectedException - 요청 스레드가 모두 해시 계산에 묶이지 않고 바로 503 으로 응답
+    // CPU 작업이라 가상 스레드 모드에서도 플랫폼 스레드 풀 유지
+    @Bean(name = PASSWORD_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashExecutor(PasswordHashingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String prefix, int limit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(limit);
+        return executor;
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new AsyncExceptionHandler();
@@ -1,10 +1,13 @@
 package com.cho.board.global.config;
 
-import java.util.Arrays;
+import com.cho.board.global.config.CacheSpecProperties.Spec;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,14 +15,45 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
+    // Caffeine (W-TinyLFU 기반 축출/입장 정책) 으로 모든 캐시의 크기와 수명을 제한
+    // 설정에 없는 이름의 캐시도 기본 설정으로 생성되어 무제한으로 커지지 않는다
     @Bean
-    public CacheManager cacheManager() {
-        SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(Arrays.asList(
-            new ConcurrentMapCache("categories"),
-            new ConcurrentMapCache("popularPosts")
-        ));
+    public CacheManager cacheManager(CacheSpecProperties properties) {
+        Spec defaults = properties.getDefaults();
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(caffeine(defaults));
+        properties.getSpecs().forEach((name, spec) ->
+            cacheManager.registerCustomCache(name, caffeine(spec.withDefaults(defaults)).build()));
         return cacheManager;
     }
 
+    // cache.gets / cache.evictions / cache.load.duration 은 Spring Boot 가 등록
+    // 여기서는 캐시별 적중률 게이지만 추가
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                Gauge.builder("cache.hit.ratio", cache.getNativeCache(),
+                        nativeCache -> nativeCache.stats().hitRate())
+                    .tag("cache", name)
+                    .description("캐시 적중률")
+                    .register(registry);
+            }
+        });
+    }
+
+    private Caffeine<Object, Object> caffeine(Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return builder;
+    }
 }
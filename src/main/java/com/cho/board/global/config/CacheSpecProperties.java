@@ -0,0 +1,41 @@
+package com.cho.board.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 캐시 이름별 크기/만료 설정
+// cache.specs[이름].maximum-size=..., 지정하지 않은 값은 cache.defaults 사용
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+
+        // 비어 있는 값은 기본 설정으로 채움
+        public Spec withDefaults(Spec defaults) {
+            Spec merged = new Spec();
+            merged.maximumSize = maximumSize != null ? maximumSize : defaults.maximumSize;
+            merged.expireAfterWrite = expireAfterWrite != null
+                ? expireAfterWrite : defaults.expireAfterWrite;
+            merged.expireAfterAccess = expireAfterAccess != null
+                ? expireAfterAccess : defaults.expireAfterAccess;
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cho.board.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 동시 요청 수 제한
+// 가상 스레드 모드에서는 요청마다 스레드가 생기므로 Tomcat 스레드 수 대신 이 값으로 동시 처리량을 묶는다
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = false;
+
+    // 동시에 처리하는 요청 수
+    private int maxConcurrentRequests = 40;
+
+    // 자리가 날 때까지 기다릴 수 있는 요청 수 (넘으면 바로 503)
+    private int maxWaitingRequests = 200;
+
+    // 기다리는 최대 시간 (넘으면 503)
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    private int retryAfterSeconds = 1;
+}
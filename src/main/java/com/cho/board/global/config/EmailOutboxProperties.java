@@ -0,0 +1,34 @@
+package com.cho.board.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 메일 발송 대기열(email_outbox) 처리 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "email.outbox")
+public class EmailOutboxProperties {
+
+    // false 면 발송기를 띄우지 않음 (메일은 대기열에 쌓이기만 함)
+    private boolean enabled = true;
+
+    // 한 번에 가져와 SMTP 연결 하나로 보내는 메일 수
+    private int batchSize = 50;
+
+    // 가져간 메일을 다른 발송기가 다시 가져가지 않는 시간 (발송기가 멈추면 이 시간 뒤 재발송)
+    private Duration lease = Duration.ofMinutes(5);
+
+    // 재시도 대기 : initial-backoff * 2^(실패 횟수 - 1), 최대 max-backoff
+    private Duration initialBackoff = Duration.ofSeconds(30);
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    // 이 횟수만큼 실패하면 FAILED 로 두고 더 이상 보내지 않음
+    private int maxAttempts = 8;
+
+    // 처리가 끝난(발송 완료/최종 실패/만료) 메일 보관 기간
+    private Duration retention = Duration.ofDays(7);
+}
@@ -1,5 +1,6 @@
 package com.cho.board.global.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,4 +14,14 @@ public class JwtProperties {
     private String secret;
     private Long accessTokenValidity;
     private Long refreshTokenValidity;
+
+    // 검증된 토큰 클레임 캐시 최대 크기 (토큰 만료 시각까지만 보관)
+    private long claimsCacheSize = 10_000;
+
+    // 토큰 클레임으로 만든 인증 주체 캐시 (최대 크기 / 보관 시간)
+    private long principalCacheSize = 10_000;
+    private Duration principalCacheTtl = Duration.ofMinutes(5);
+
+    // 만료된 Refresh Token 을 한 번에 지우는 행 수
+    private int refreshTokenPurgeBatchSize = 1_000;
 }
@@ -0,0 +1,41 @@
+package com.cho.board.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// OSIV(open-in-view) 를 비밀번호 해시 / 파일 업로드 요청에서만 제외
+// OSIV 가 켜져 있으면 요청 중 처음 얻은 DB 커넥션을 요청이 끝날 때까지 붙잡으므로,
+// 서비스에서 트랜잭션을 해시/저장소 업로드 밖으로 빼도 기다리는 동안 커넥션이 반환되지 않음
+// (이 경로의 응답은 엔티티 지연 로딩 없이 DTO 로 만들어짐)
+// Spring Boot 기본 등록은 모든 경로에 적용되므로 spring.jpa.open-in-view=false 로 끄고 여기서 등록
+@Configuration
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    private static final String[] PASSWORD_HASHING_PATHS = {
+        "/auth/login",
+        "/auth/signup",
+        "/users/me",
+        "/users/me/password"
+    };
+
+    private static final String[] FILE_UPLOAD_PATHS = {
+        "/files/temp",
+        "/files/posts/*/images",
+        "/users/me/profile-image"
+    };
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+            .excludePathPatterns(PASSWORD_HASHING_PATHS)
+            .excludePathPatterns(FILE_UPLOAD_PATHS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.cho.board.global.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 비밀번호 해시(BCrypt) 실행 설정
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+public class PasswordHashingProperties {
+
+    // 동시에 해시를 계산하는 스레드 수 (CPU 작업이라 코어 수 이내)
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // 대기열 길이 (가득 차면 기다리지 않고 503)
+    private int queueCapacity = 50;
+
+    // BCrypt cost (비우면 시작 시 target-time 에 맞춰 측정, 운영에서는 노드 간 같은 값으로 고정)
+    private Integer strength;
+    private Duration targetTime = Duration.ofMillis(250);
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    // 대기 + 계산을 합친 최대 시간 (넘으면 503)
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private int retryAfterSeconds = 1;
+}
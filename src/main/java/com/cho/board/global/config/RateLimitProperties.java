@@ -0,0 +1,49 @@
+package com.cho.board.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 인증/이메일 엔드포인트 요청 수 제한 (IP / 이메일 단위 토큰 버킷)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = false;
+
+    // 제한 하나당 기억하는 키(IP, 이메일) 최대 수
+    private long maxKeys = 100_000;
+
+    // 이메일을 찾기 위해 읽는 JSON 본문 최대 크기 (넘으면 이메일 기준 제한 생략)
+    private int maxBodySize = 4_096;
+
+    // 이름 -> 규칙
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        private String method = "POST";
+        private String path;
+        private Limit perIp;
+
+        // 요청 파라미터 또는 JSON 본문의 email 기준
+        private Limit perEmail;
+    }
+
+    // period 동안 capacity 번 (한 번에 capacity 번까지 몰아서 허용)
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int capacity;
+        private Duration period;
+    }
+}
@@ -1,7 +1,10 @@
 package com.cho.board.global.config;
 
+import com.cho.board.global.security.BoundedPasswordEncoder;
 import com.cho.board.global.security.CustomAuthenticationEntryPoint;
 import com.cho.board.global.security.JwtAuthenticationFilter;
+import com.cho.board.global.security.PasswordHashingService;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -12,7 +15,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -40,6 +42,8 @@ public class SecurityConfig {
             .sessionManagement(
                 session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(CompletableFuture) 재디스패치 - 첫 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 인증 없이 접근 가능한 엔드포인트
                 .requestMatchers(
                     "/", "/error",
@@ -50,6 +54,8 @@ public class SecurityConfig {
                     "/users",
                     "/auth/**"
                 ).permitAll()
+                // health 외 actuator 엔드포인트(metrics 등)는 관리자만
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // 나머지는 인증 필요
                 .anyRequest().authenticated()
             )
@@ -64,9 +70,10 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // BCrypt cost 와 동시 계산 수는 PasswordHashingService 에서 관리
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingService passwordHashingService) {
+        return new BoundedPasswordEncoder(passwordHashingService);
     }
 
     @Bean
@@ -0,0 +1,54 @@
+package com.cho.board.global.config;
+
+import com.cho.board.global.storage.FileSystemStorageBackend;
+import com.cho.board.global.storage.S3StorageBackend;
+import com.cho.board.global.storage.StorageBackend;
+import java.net.URI;
+import java.nio.file.Paths;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+// 내용 주소 저장소({hash}.{ext} 파일과 축소본) 구현 선택
+// 이전 방식(UUID 이름) 파일과 업로드 임시 파일은 설정과 관계없이 로컬 디렉토리 사용
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "file.storage", name = "type", havingValue = "filesystem",
+        matchIfMissing = true)
+    public StorageBackend fileSystemStorageBackend(@Value("${file.store-dir}") String storeDir) {
+        return new FileSystemStorageBackend(Paths.get(storeDir));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "file.storage", name = "type", havingValue = "s3")
+    public StorageBackend s3StorageBackend(StorageProperties storageProperties) {
+        StorageProperties.S3 s3 = storageProperties.getS3();
+        if (!StringUtils.hasText(s3.getBucket())) {
+            throw new IllegalStateException("file.storage.s3.bucket 설정이 필요합니다.");
+        }
+
+        S3ClientBuilder builder = S3Client.builder()
+            .region(Region.of(s3.getRegion()))
+            .forcePathStyle(s3.isPathStyleAccess());
+        if (StringUtils.hasText(s3.getEndpoint())) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+        builder.credentialsProvider(StringUtils.hasText(s3.getAccessKey())
+            ? StaticCredentialsProvider.create(
+            AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey()))
+            : DefaultCredentialsProvider.create());
+
+        return new S3StorageBackend(builder.build(), s3.getBucket(),
+            s3.getPartSize().toBytes());
+    }
+}
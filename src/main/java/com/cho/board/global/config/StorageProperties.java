@@ -0,0 +1,39 @@
+package com.cho.board.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+// 업로드 파일 저장소 설정
+// file.storage.type=filesystem (기본, file.store-dir) 또는 s3 (여러 앱 노드가 같은 버킷 공유)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "file.storage")
+public class StorageProperties {
+
+    private String type = "filesystem";
+    private S3 s3 = new S3();
+
+    @Getter
+    @Setter
+    public static class S3 {
+
+        // MinIO 등 S3 호환 저장소 주소 (비우면 AWS 기본 엔드포인트)
+        private String endpoint;
+        private String region = "ap-northeast-2";
+        private String bucket;
+
+        // 비우면 AWS 기본 자격 증명 (환경 변수, 인스턴스 프로파일 등)
+        private String accessKey;
+        private String secretKey;
+
+        // MinIO 는 버킷을 호스트명이 아닌 경로로 지정
+        private boolean pathStyleAccess = true;
+
+        // 이 크기를 넘는 파일은 멀티파트로 나눠 업로드 (최소 5MB)
+        private DataSize partSize = DataSize.ofMegabytes(8);
+    }
+}
@@ -0,0 +1,13 @@
+package com.cho.board.global.constants;
+
+public final class CacheNames {
+
+    private CacheNames() {
+        throw new AssertionError("Constants class cannot be instantiated");
+    }
+
+    public static final String CATEGORIES = "categories";
+    public static final String POPULAR_POSTS = "popularPosts";
+    public static final String POST_DETAIL = "postDetail";
+    public static final String POST_SEARCH_COUNT = "postSearchCount";
+}
@@ -15,6 +15,7 @@ public enum ErrorCode {
     INCORRECT_PASSWORD(HttpStatus.BAD_REQUEST, "4000", "현재 비밀번호가 일치하지 않습니다"),
     SAME_PASSWORD(HttpStatus.BAD_REQUEST, "4000", "새 비밀번호는 기존과 달라야 합니다"),
     DELETED_COMMENT(HttpStatus.BAD_REQUEST, "4000", "삭제된 댓글은 수정할 수 없습니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "4000", "잘못된 커서 값입니다"),
 
     // ========== 403 Forbidden ==========
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "4030", "접근 권한이 없습니다"),
@@ -37,9 +38,15 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "4090", "이미 존재하는 이메일입니다"),
     NICKNAME_ALREADY_EXISTS(HttpStatus.CONFLICT, "4090", "이미 존재하는 닉네임입니다"),
 
+    // ========== 429 Too Many Requests ==========
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "4290", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
+
     // ========== 500 Internal Server Error ==========
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "5000", "서버 내부 오류가 발생했습니다"),
 
+    // ========== 503 Service Unavailable ==========
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "5030", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+
     // 파일 관련 에러
     FILE_EMPTY(HttpStatus.BAD_REQUEST, "4001", "빈 파일은 저장할 수 없습니다"),
     FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "4001", "파일 크기가 너무 큽니다. 최대 10MB 까지 업로드 가능합니다"),
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -53,6 +54,19 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error(response, e.getMessage()));
     }
 
+    // 과부하로 처리하지 못한 요청 - 클라이언트가 잠시 후 다시 시도하도록 Retry-After 포함
+    @ExceptionHandler(ServiceUnavailableException.class)
+    protected ResponseEntity<ApiResponse<ErrorResponse>> handleServiceUnavailableException(
+        ServiceUnavailableException e) {
+        log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
+
+        ErrorCode errorCode = e.getErrorCode();
+        ErrorResponse response = buildErrorResponse(errorCode, e.getMessage());
+        return ResponseEntity.status(errorCode.getStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(ApiResponse.error(response, e.getMessage()));
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ApiResponse<Void>> handleUnauthorizedException(
         UnauthorizedException e) {
@@ -0,0 +1,15 @@
+package com.cho.board.global.exception;
+
+import lombok.Getter;
+
+// 과부하로 지금은 처리할 수 없는 요청 (503 + Retry-After)
+@Getter
+public class ServiceUnavailableException extends BusinessException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceUnavailableException(int retryAfterSeconds) {
+        super(ErrorCode.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,142 @@
+package com.cho.board.global.filter;
+
+import com.cho.board.global.config.ConcurrencyLimitProperties;
+import com.cho.board.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 동시에 처리하는 요청 수를 제한하고, 대기가 길어지면 바로 503 + Retry-After 로 돌려보냄
+// 가상 스레드는 요청마다 새로 생기므로 제한이 없으면 커넥션 풀(10) 앞에 수천 개가 몰려 모두 타임아웃까지 기다리게 된다
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(
+        ConcurrencyLimitProperties properties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        // 먼저 기다린 요청부터 처리
+        this.permits = new Semaphore(properties.getMaxConcurrentRequests(), true);
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.rejected = Counter.builder("http.concurrency.rejected")
+            .description("동시 요청 수 제한으로 거절한 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("http.concurrency.active", permits,
+                semaphore -> properties.getMaxConcurrentRequests() - semaphore.availablePermits())
+            .description("처리 중인 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("http.concurrency.waiting", permits, Semaphore::getQueueLength)
+            .description("자리를 기다리는 요청 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (!acquire()) {
+            reject(response);
+            return;
+        }
+
+        Runnable release = releaseOnce();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 비동기 응답(CompletableFuture 등)은 작업이 끝날 때까지 자리를 유지
+            // 재디스패치는 이 필터를 다시 거치지 않으므로 (OncePerRequestFilter) 완료 이벤트에서 반환
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    // 완료/오류/타임아웃 이벤트가 겹쳐도 한 번만 반환
+    private Runnable releaseOnce() {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+    }
+
+    // 헬스 체크/메트릭 수집은 부하와 관계없이 응답해야 함
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private boolean acquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        // 이미 충분히 밀려 있으면 기다리지 않고 거절
+        if (permits.getQueueLength() >= properties.getMaxWaitingRequests()) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ReleaseOnCompletion(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 다시 비동기로 넘어가면 새 AsyncContext 에도 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        rejected.increment();
+        log.debug("동시 요청 수 제한으로 거절 - 대기: {}", permits.getQueueLength());
+
+        FilterErrorResponse.write(response, objectMapper, ErrorCode.SERVICE_UNAVAILABLE,
+            properties.getRetryAfterSeconds());
+    }
+}
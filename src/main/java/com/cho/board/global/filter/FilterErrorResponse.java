@@ -0,0 +1,34 @@
+package com.cho.board.global.filter;
+
+import com.cho.board.global.exception.ErrorCode;
+import com.cho.board.global.exception.ErrorResponse;
+import com.cho.board.global.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+// 컨트롤러까지 가기 전에 필터에서 거절할 때의 응답
+// GlobalExceptionHandler 와 같은 형식(ApiResponse + ErrorResponse)에 Retry-After 포함
+final class FilterErrorResponse {
+
+    private FilterErrorResponse() {
+    }
+
+    static void write(HttpServletResponse response, ObjectMapper objectMapper,
+        ErrorCode errorCode, long retryAfterSeconds) throws IOException {
+        ErrorResponse body = ErrorResponse.of(
+            errorCode.getStatus().value(),
+            errorCode.getStatus().getReasonPhrase(),
+            errorCode.getCode(),
+            errorCode.getMessage());
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+            ApiResponse.error(body, errorCode.getMessage())));
+    }
+}
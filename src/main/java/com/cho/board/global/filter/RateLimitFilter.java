@@ -0,0 +1,252 @@
+package com.cho.board.global.filter;
+
+import com.cho.board.global.config.RateLimitProperties;
+import com.cho.board.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 로그인/회원가입/이메일 인증 요청을 IP, 이메일 단위 토큰 버킷으로 제한하고 넘으면 429 + Retry-After
+// 인증 필터보다 앞에서 거절하므로 거절된 요청은 DB 조회나 BCrypt 계산을 하지 않음
+// (메모리 기반이므로 인스턴스 단위로 동작)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<Rule> rules;
+    private final ObjectMapper objectMapper;
+    private final int maxBodySize;
+
+    public RateLimitFilter(
+        RateLimitProperties properties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.rules = properties.getRules().entrySet().stream()
+            .map(entry -> new Rule(entry.getKey(), entry.getValue(), properties.getMaxKeys(),
+                meterRegistry))
+            .toList();
+        this.objectMapper = objectMapper;
+        this.maxBodySize = properties.getMaxBodySize();
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Rule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest target = request;
+
+        // nginx 뒤에서는 server.forward-headers-strategy=native 로 X-Forwarded-For 의 클라이언트 IP 가 들어옴
+        long wait = rule.perIp != null ? rule.perIp.tryConsume(request.getRemoteAddr()) : 0;
+
+        if (wait == 0 && rule.perEmail != null) {
+            String email = request.getParameter("email");
+            if (email == null && isJson(request)) {
+                CachedBodyRequest cached = new CachedBodyRequest(request, maxBodySize);
+                target = cached;
+                email = extractEmail(cached);
+            }
+            if (email != null && !email.isBlank()) {
+                wait = rule.perEmail.tryConsume(email.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+
+        if (wait > 0) {
+            log.debug("요청 수 제한으로 거절 - {} {}", rule.name, request.getRemoteAddr());
+            // 초 단위로 올림
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+                wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            FilterErrorResponse.write(response, objectMapper, ErrorCode.TOO_MANY_REQUESTS,
+                retryAfter);
+            return;
+        }
+
+        filterChain.doFilter(target, response);
+    }
+
+    private Rule match(HttpServletRequest request) {
+        for (Rule rule : rules) {
+            if (rule.method.equalsIgnoreCase(request.getMethod())
+                && rule.path.equals(request.getRequestURI())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT)
+            .startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    // 본문이 너무 크거나 JSON 이 아니면 이메일 기준 제한 생략 (요청은 그대로 컨트롤러에서 검증)
+    private String extractEmail(CachedBodyRequest request) {
+        if (request.isTruncated()) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(request.getHead()).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 규칙 하나 : 경로 + IP / 이메일 기준 제한
+    private static final class Rule {
+
+        private final String name;
+        private final String method;
+        private final String path;
+        private final Limit perIp;
+        private final Limit perEmail;
+
+        private Rule(String name, RateLimitProperties.Rule rule, long maxKeys,
+            MeterRegistry meterRegistry) {
+            this.name = name;
+            this.method = rule.getMethod();
+            this.path = rule.getPath();
+            this.perIp = rule.getPerIp() != null
+                ? new Limit(name, "ip", rule.getPerIp(), maxKeys, meterRegistry)
+                : null;
+            this.perEmail = rule.getPerEmail() != null
+                ? new Limit(name, "email", rule.getPerEmail(), maxKeys, meterRegistry)
+                : null;
+        }
+    }
+
+    // 키(IP, 이메일)별 버킷
+    // 마지막 요청 후 period 가 지나면 버킷은 다시 가득 찬 상태와 같으므로 그때 제거
+    private static final class Limit {
+
+        private final RateLimitProperties.Limit limit;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        private Limit(String rule, String key, RateLimitProperties.Limit limit, long maxKeys,
+            MeterRegistry meterRegistry) {
+            this.limit = limit;
+            this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(limit.getPeriod())
+                .build();
+            this.rejected = Counter.builder("http.ratelimit.rejected")
+                .description("요청 수 제한으로 거절한 요청 수")
+                .tag("rule", rule)
+                .tag("key", key)
+                .register(meterRegistry);
+        }
+
+        private long tryConsume(String key) {
+            long now = System.nanoTime();
+            long wait = buckets.get(key,
+                    k -> new TokenBucket(limit.getCapacity(), limit.getPeriod(), now))
+                .tryConsume(now);
+            if (wait > 0) {
+                rejected.increment();
+            }
+            return wait;
+        }
+    }
+
+    // 이메일을 읽기 위해 본문 앞부분을 읽어 두고, 컨트롤러에는 읽은 부분 + 나머지를 그대로 전달
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final boolean truncated;
+        private final InputStream body;
+
+        private CachedBodyRequest(HttpServletRequest request, int maxBodySize) throws IOException {
+            super(request);
+            InputStream original = request.getInputStream();
+            byte[] read = original.readNBytes(maxBodySize + 1);
+            this.truncated = read.length > maxBodySize;
+            this.head = read;
+            this.body = new SequenceInputStream(new ByteArrayInputStream(read), original);
+        }
+
+        private byte[] getHead() {
+            return head;
+        }
+
+        private boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = body.read();
+                    finished = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = body.read(buffer, offset, length);
+                    finished = read < 0;
+                    return read;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
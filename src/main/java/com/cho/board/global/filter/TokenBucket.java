@@ -0,0 +1,36 @@
+package com.cho.board.global.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 토큰 버킷 (GCRA : 토큰 수 대신 "다음 토큰이 채워지는 이론상 시각" 하나만 저장)
+// capacity 개까지 연속으로 허용하고, 이후에는 period / capacity 마다 1개씩 채워짐
+// 상태가 long 하나라 잠금 없이 CAS 로 갱신
+final class TokenBucket {
+
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, Duration period, long nowNanos) {
+        this.emissionInterval = period.toNanos() / capacity;
+        this.burstTolerance = emissionInterval * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    // 허용되면 0, 거절되면 다음 토큰까지 남은 나노초
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            // nanoTime 은 값이 넘칠 수 있으므로 차이로 비교
+            long arrival = current - nowNanos > 0 ? current : nowNanos;
+            long wait = arrival - burstTolerance - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionInterval)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.cho.board.global.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 커서 기반 페이징 응답 (전체 개수 대신 다음 커서 제공)
+@Getter
+@AllArgsConstructor
+public class CursorSliceResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorSliceResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorSliceResponse<>(content, size, nextCursor != null, nextCursor);
+    }
+}
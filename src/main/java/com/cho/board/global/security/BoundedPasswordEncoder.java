@@ -0,0 +1,27 @@
+package com.cho.board.global.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// PasswordEncoder 를 쓰는 곳(로그인 인증, 회원가입 등)이 모두 해시 전용 스레드 풀을 거치도록 감싼 것
+// upgradeEncoding 이 true 면 DaoAuthenticationProvider 가 로그인 성공 후 UserDetailsPasswordService 로 다시 저장
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordHashingService passwordHashingService;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingService.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingService.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordHashingService.needsRehash(encodedPassword);
+    }
+}
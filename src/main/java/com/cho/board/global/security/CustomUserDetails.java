@@ -1,36 +1,57 @@
 package com.cho.board.global.security;
 
+import com.cho.board.user.entity.Role;
 import com.cho.board.user.entity.User;
 import java.util.Collection;
 import java.util.Collections;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+// 인증 주체
+// 로그인 시에는 User 엔티티로, 이후 요청에서는 Access Token 클레임만으로 만들어 DB 조회가 없다
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String email;
+    private final Role role;
+
+    // 토큰으로 만든 주체는 비밀번호를 갖지 않음
+    private final String password;
+
+    public CustomUserDetails(User user) {
+        this(user.getId(), user.getEmail(), user.getRole(), user.getPassword());
+    }
+
+    private CustomUserDetails(Long userId, String email, Role role, String password) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.password = password;
+    }
+
+    public static CustomUserDetails fromClaims(Long userId, String email, Role role) {
+        return new CustomUserDetails(userId, email, role, null);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singleton(
-            new SimpleGrantedAuthority(user.getRole().getKey())
+            new SimpleGrantedAuthority(role.getKey())
         );
     }
 
     @Override
     public String getUsername() {
         // CustomUserDetails 에서 email 사용하므로 email 을 반환함
-        return user.getEmail();
+        return email;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
@@ -52,9 +73,4 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return true; // 계정 활성화
     }
-
-    // 실제 User 엔티티에 접근할 때 사용
-    public Long getUserId() {
-        return user.getId();
-    }
 }
@@ -4,6 +4,7 @@ import com.cho.board.user.entity.User;
 import com.cho.board.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,7 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -25,4 +26,15 @@ public class CustomUserDetailsService implements UserDetailsService {
         // 2. User -> UserDetails 로 변환
         return new CustomUserDetails(user);
     }
+
+    // 로그인 성공 후 저장된 해시의 cost 가 현재 설정과 다르면 새 해시로 교체 (DaoAuthenticationProvider 가 호출)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException(
+                "사용자를 찾을 수 없습니다.: " + userDetails.getUsername()));
+        user.changePassword(newPassword);
+        return new CustomUserDetails(user);
+    }
 }
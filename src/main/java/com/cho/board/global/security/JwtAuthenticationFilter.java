@@ -1,11 +1,16 @@
 package com.cho.board.global.security;
 
+import com.cho.board.global.config.JwtProperties;
+import com.cho.board.global.exception.CustomJwtException;
 import com.cho.board.global.util.JwtUtil;
+import com.cho.board.user.entity.Role;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +26,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RevokedSessionRegistry revokedSessionRegistry;
+    private final JwtProperties jwtProperties;
 
     @Override
     protected void doFilterInternal(
@@ -33,14 +41,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1. 헤더에서 JWT 토큰 추출
             String token = extractToken(request);
 
-            // 2. 토큰이 있고 유효한 경우
-            if (token != null && jwtUtil.validateToken(token)) {
+            // 2. 토큰이 있는 경우
+            if (token != null) {
 
-                // 3. 토큰에서 이메일 추출
-                String email = jwtUtil.getEmailFromToken(token);
+                // 3. 검증과 클레임 추출을 한 번에 (검증 실패 시 예외, 캐시 적중 시 재검증 없음)
+                Claims claims = jwtUtil.parseClaims(token);
 
-                // 4. UserDetails 조회
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                // 4. UserDetails 생성 (토큰 클레임 기반, 무효화된 토큰이면 예외)
+                UserDetails userDetails = resolvePrincipal(claims);
 
                 // 5. 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
@@ -66,6 +74,53 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolvePrincipal(Claims claims) {
+        // Refresh Token(jti, typ=refresh)은 Bearer 로 인증할 수 없음
+        String type = claims.get(JwtUtil.TOKEN_TYPE_CLAIM, String.class);
+        if (claims.getId() != null || (type != null && !JwtUtil.ACCESS_TOKEN_TYPE.equals(type))) {
+            throw new CustomJwtException("Access Token 이 아닙니다");
+        }
+
+        // 로그아웃 등으로 폐기된 세션의 토큰 (메모리 조회만)
+        String sessionId = claims.get(JwtUtil.SESSION_ID_CLAIM, String.class);
+        if (sessionId != null && revokedSessionRegistry.isRevoked(sessionId)) {
+            throw new CustomJwtException("무효화된 토큰입니다");
+        }
+
+        Object userId = claims.get(JwtUtil.USER_ID_CLAIM);
+        String role = claims.get(JwtUtil.ROLE_CLAIM, String.class);
+
+        if (!(userId instanceof Number id) || role == null) {
+            return loadLegacyPrincipal(claims);
+        }
+
+        CustomUserDetails principal = userPrincipalCache.get(
+            id.longValue(), claims.getSubject(), Role.valueOf(role), claims.getIssuedAt());
+        if (principal == null) {
+            throw new CustomJwtException("무효화된 토큰입니다");
+        }
+        return principal;
+    }
+
+    // 사용자 ID / 권한 클레임이 없는 이전 형식의 토큰은 DB 에서 조회
+    // 배포 후 Access Token 유효기간이 지나면 이전 형식 Access Token 은 모두 만료되므로 그때 이 분기를 제거
+    private UserDetails loadLegacyPrincipal(Claims claims) {
+        // 이전 형식은 Access / Refresh 구분이 없으므로 유효기간이 Access Token 보다 긴 토큰(Refresh)은 거절
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        if (issuedAt == null || expiration == null
+            || expiration.getTime() - issuedAt.getTime() > jwtProperties.getAccessTokenValidity()) {
+            throw new CustomJwtException("Access Token 이 아닙니다");
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        if (userDetails instanceof CustomUserDetails principal
+            && userPrincipalCache.isInvalidated(principal.getUserId(), issuedAt)) {
+            throw new CustomJwtException("무효화된 토큰입니다");
+        }
+        return userDetails;
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -0,0 +1,164 @@
+package com.cho.board.global.security;
+
+import com.cho.board.global.config.AsyncConfig;
+import com.cho.board.global.config.PasswordHashingProperties;
+import com.cho.board.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// BCrypt 해시/비교를 전용 스레드 풀에서 실행
+// 동시 계산 수를 코어 수로 묶고, 대기열이 차거나 너무 오래 기다리면 ServiceUnavailableException(503) 으로 바로 돌려보낸다
+@Slf4j
+@Component
+public class PasswordHashingService {
+
+    // $2a$10$... 형식에서 cost 추출
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final PasswordHashingProperties properties;
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final Counter rejected;
+    private final Timer encodeTime;
+    private final Timer matchesTime;
+
+    public PasswordHashingService(
+        @Qualifier(AsyncConfig.PASSWORD_HASH_EXECUTOR) ThreadPoolTaskExecutor executor,
+        PasswordHashingProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.executor = executor;
+        this.properties = properties;
+        this.strength = properties.getStrength() != null
+            ? properties.getStrength()
+            : calibrate(properties);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.rejected = Counter.builder("password.hashing.rejected")
+            .description("대기열이 가득 차거나 시간 초과로 거절한 해시 요청 수")
+            .register(meterRegistry);
+        // 대기 시간을 뺀 실제 계산 시간 (cost 를 올렸을 때 비용 확인용)
+        this.encodeTime = hashingTimer("encode", meterRegistry);
+        this.matchesTime = hashingTimer("matches", meterRegistry);
+    }
+
+    private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("password.hashing.time")
+            .description("BCrypt 해시/비교에 걸린 시간")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return join(encodeAsync(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return join(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    // 해시 전용 스레드 풀에서 실행되고 끝나면 완료되는 future (요청 스레드는 기다리지 않고 이어서 처리 가능)
+    // 거절/시간 초과는 ServiceUnavailableException 으로 완료됨
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(encodeTime, () -> encoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword,
+        String encodedPassword) {
+        return submit(matchesTime, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮을 때만 다시 해시 (로그인 성공 시 교체)
+    // cost 를 측정으로 정하면 노드마다 값이 다를 수 있으므로 높은 쪽으로만 올려서 노드 사이에서 번갈아 바뀌지 않게 함
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(overloaded("대기열 가득 참"));
+        }
+        // 시간 초과로 완료되면 아직 대기열에 있던 작업은 실행되지 않음
+        return future
+            .orTimeout(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .exceptionallyCompose(ex -> CompletableFuture.failedFuture(
+                unwrap(ex) instanceof TimeoutException ? overloaded("시간 초과") : unwrap(ex)));
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceUnavailableException overloaded(String reason) {
+        rejected.increment();
+        log.warn("비밀번호 해시 요청 거절 ({}) - 대기: {}", reason, executor.getQueueSize());
+        return new ServiceUnavailableException(properties.getRetryAfterSeconds());
+    }
+
+    // 최소 cost 로 몇 번 해시해 걸린 시간을 재고, cost 가 1 오를 때마다 시간이 2배가 되는 것으로
+    // target-time 을 넘지 않는 가장 큰 cost 선택 (min ~ max 범위)
+    static int calibrate(PasswordHashingProperties properties) {
+        int min = properties.getMinStrength();
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(min);
+        probe.encode(CALIBRATION_PASSWORD); // 워밍업
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        long target = properties.getTargetTime().toNanos();
+        int strength = min;
+        long estimated = best;
+        while (strength < properties.getMaxStrength() && estimated * 2 <= target) {
+            estimated *= 2;
+            strength++;
+        }
+
+        log.info("BCrypt cost 측정 - cost {} : {}ms, 선택 cost {} (예상 {}ms, 목표 {}ms)",
+            min, TimeUnit.NANOSECONDS.toMillis(best), strength,
+            TimeUnit.NANOSECONDS.toMillis(estimated), properties.getTargetTime().toMillis());
+        return strength;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cho.board.global.security;
+
+import com.cho.board.global.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+// 폐기된 로그인 세션(sid) 목록
+// Access / Refresh Token 의 sid 클레임을 DB 조회 없이 확인하기 위한 것으로, 기준은 refresh_tokens.revoked_at
+// 폐기 후에는 그 세션으로 새 Access Token 이 발급되지 않으므로(갱신 시 DB 에서 다시 확인),
+// 마지막으로 발급된 Access Token 이 만료될 때까지만 보관 - 크기 제한으로 먼저 빠지는 항목이 없음
+// (목록에서 빠진 뒤 쓰인 Refresh Token 은 RefreshTokenService.rotate 의 DB 확인에서 거절)
+// (메모리 기반이므로 인스턴스 단위로 동작, 다른 인스턴스의 폐기는 RefreshTokenService 가 주기적으로 가져옴)
+@Component
+public class RevokedSessionRegistry {
+
+    private final Cache<String, Boolean> revoked;
+
+    public RevokedSessionRegistry(JwtProperties jwtProperties) {
+        this.revoked = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(jwtProperties.getAccessTokenValidity()))
+            .build();
+    }
+
+    public void revoke(String sessionId) {
+        revoked.put(sessionId, Boolean.TRUE);
+    }
+
+    public boolean isRevoked(String sessionId) {
+        return revoked.getIfPresent(sessionId) != null;
+    }
+}
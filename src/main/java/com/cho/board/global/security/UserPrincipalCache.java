@@ -0,0 +1,67 @@
+package com.cho.board.global.security;
+
+import com.cho.board.global.config.JwtProperties;
+import com.cho.board.user.entity.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Date;
+import org.springframework.stereotype.Component;
+
+// Access Token 클레임으로 만든 인증 주체 캐시 + 무효화 시각 관리
+// 권한 변경/비밀번호 변경/탈퇴 시 invalidate 하면 그 이전에 발급된 토큰은 더 이상 인증되지 않는다
+// (메모리 기반이므로 인스턴스 단위로 동작)
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<Long, CustomUserDetails> principals;
+
+    // userId -> 무효화 시각 (epoch millis), 그 이전 토큰은 길어야 Access Token 유효기간 뒤 만료되므로 그때까지만 보관
+    private final Cache<Long, Long> invalidatedAt;
+
+    public UserPrincipalCache(JwtProperties jwtProperties) {
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getPrincipalCacheSize())
+            .expireAfterWrite(jwtProperties.getPrincipalCacheTtl())
+            .build();
+        this.invalidatedAt = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(jwtProperties.getAccessTokenValidity()))
+            .build();
+    }
+
+    // 토큰 클레임으로 인증 주체 조회 (무효화 이전에 발급된 토큰이면 null)
+    public CustomUserDetails get(Long userId, String email, Role role, Date issuedAt) {
+        if (isRevoked(userId, issuedAt)) {
+            return null;
+        }
+
+        CustomUserDetails principal = principals.get(userId,
+            id -> CustomUserDetails.fromClaims(id, email, role));
+
+        // 캐시된 주체와 토큰 내용이 다르면 (무효화 없이 재발급된 경우 등) 토큰 기준으로 교체
+        if (!principal.getEmail().equals(email) || principal.getRole() != role) {
+            principal = CustomUserDetails.fromClaims(userId, email, role);
+            principals.put(userId, principal);
+        }
+        return principal;
+    }
+
+    // 무효화 이전에 발급된 토큰인지 (DB 에서 주체를 조회하는 경우에도 같은 기준 적용)
+    public boolean isInvalidated(Long userId, Date issuedAt) {
+        return isRevoked(userId, issuedAt);
+    }
+
+    public void invalidate(Long userId) {
+        invalidatedAt.put(userId, System.currentTimeMillis());
+        principals.invalidate(userId);
+    }
+
+    // iat 는 초 단위이므로 무효화 시각도 초 단위로 비교 (같은 초에 재발급된 토큰은 허용)
+    private boolean isRevoked(Long userId, Date issuedAt) {
+        Long revokedAt = invalidatedAt.getIfPresent(userId);
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 < revokedAt / 1000;
+    }
+}
@@ -0,0 +1,202 @@
+package com.cho.board.global.storage;
+
+import com.cho.board.global.exception.ErrorCode;
+import com.cho.board.global.exception.FileStorageException;
+import com.cho.board.global.exception.ResourceNotFoundException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 로컬 디렉토리 저장소 (key = root 아래 상대 경로)
+// 임시 파일을 같은 파일 시스템에 두면 저장은 rename 한 번으로 끝남
+public class FileSystemStorageBackend implements StorageBackend {
+
+    private final Path root;
+
+    public FileSystemStorageBackend(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException ex) {
+            throw new FileStorageException("파일 저장 디렉토리를 생성할 수 없습니다.", ex);
+        }
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                // 다른 파일 시스템이면 대상 디렉토리에 복사한 뒤 이동해서 반쯤 쓰인 파일이 보이지 않게 함
+                Path temp = Files.createTempFile(target.getParent(), ".put-", ".tmp");
+                try {
+                    Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+                Files.deleteIfExists(source);
+            }
+        } catch (IOException ex) {
+            throw new FileStorageException("파일 저장에 실패했습니다.: " + key, ex);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (NoSuchFileException ex) {
+            throw notFound(key);
+        } catch (IOException ex) {
+            throw new FileStorageException("파일을 읽을 수 없습니다: " + key, ex);
+        }
+    }
+
+    @Override
+    public void stream(String key, long start, long count, OutputStream out) {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (NoSuchFileException ex) {
+            throw notFound(key);
+        } catch (IOException ex) {
+            throw new FileStorageException("파일을 전송할 수 없습니다: " + key, ex);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException ex) {
+            throw new FileStorageException("파일 삭제 실패: " + key, ex);
+        }
+    }
+
+    @Override
+    public boolean move(String sourceKey, String targetKey) {
+        Path target = resolve(targetKey);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(resolve(sourceKey), target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (NoSuchFileException ex) {
+            return false;
+        } catch (IOException ex) {
+            throw new FileStorageException("파일 이동 실패: " + sourceKey, ex);
+        }
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) {
+        return stat(resolve(key));
+    }
+
+    @Override
+    public void list(String prefix, Consumer<StorageObject> action) {
+        // prefix 의 마지막 '/' 앞은 디렉토리, 뒤는 파일(또는 디렉토리) 이름 앞부분
+        int slash = prefix.lastIndexOf('/');
+        Path directory = slash >= 0 ? resolveDirectory(prefix.substring(0, slash)) : root;
+        String namePrefix = prefix.substring(slash + 1);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            walk(directory, namePrefix, action);
+        } catch (IOException ex) {
+            throw new FileStorageException("디렉토리를 읽을 수 없습니다: " + prefix, ex);
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    // 파일이 많은 디렉토리도 한 번에 목록을 만들지 않도록 DirectoryStream 으로 순회
+    private void walk(Path directory, String namePrefix, Consumer<StorageObject> action)
+        throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                if (!path.getFileName().toString().startsWith(namePrefix)) {
+                    continue;
+                }
+                if (Files.isDirectory(path)) {
+                    walk(path, "", action);
+                } else {
+                    stat(path).ifPresent(action);
+                }
+            }
+        }
+    }
+
+    private Optional<StorageObject> stat(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            return Optional.of(new StorageObject(keyOf(path), attributes.size(),
+                attributes.lastModifiedTime().toInstant(), null));
+        } catch (IOException ex) {
+            return Optional.empty();
+        }
+    }
+
+    // 저장 디렉토리 밖으로 벗어나는 key 는 거부
+    private Path resolve(String key) {
+        Path path = resolveDirectory(key);
+        if (path.equals(root)) {
+            throw new FileStorageException(ErrorCode.FILE_INVALID_PATH, key);
+        }
+        return path;
+    }
+
+    private Path resolveDirectory(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new FileStorageException(ErrorCode.FILE_INVALID_PATH, key);
+        }
+        return path;
+    }
+
+    private String keyOf(Path path) {
+        return root.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private static ResourceNotFoundException notFound(String key) {
+        return new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
+            "파일을 찾을 수 없습니다. : " + key);
+    }
+}
@@ -0,0 +1,299 @@
+package com.cho.board.global.storage;
+
+import com.cho.board.global.exception.ErrorCode;
+import com.cho.board.global.exception.FileStorageException;
+import com.cho.board.global.exception.ResourceNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+// S3 호환 오브젝트 스토리지 저장소 (AWS S3, MinIO 등)
+// 여러 앱 노드가 같은 버킷을 보므로 공유 볼륨 없이 업로드 파일을 함께 쓸 수 있음
+@Slf4j
+public class S3StorageBackend implements StorageBackend, AutoCloseable {
+
+    // S3 멀티파트 업로드의 마지막 조각을 제외한 최소 크기
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client client;
+    private final String bucket;
+    private final long partSize;
+
+    public S3StorageBackend(S3Client client, String bucket, long partSize) {
+        this.client = client;
+        this.bucket = bucket;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) {
+        try {
+            long size = Files.size(source);
+            if (size <= partSize) {
+                client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(size)
+                        .build(),
+                    RequestBody.fromFile(source));
+            } else {
+                putMultipart(key, source, size, contentType);
+            }
+            Files.deleteIfExists(source);
+        } catch (IOException | SdkException ex) {
+            throw new FileStorageException("파일 저장에 실패했습니다.: " + key, ex);
+        }
+    }
+
+    // 조각마다 파일의 해당 구간만 읽어 보내므로 메모리에는 버퍼 크기만큼만 올라감
+    // 실패하면 업로드를 중단해서 저장소에 조각이 남지 않게 함
+    private void putMultipart(String key, Path source, long size, String contentType) {
+        String uploadId = client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build())
+            .uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long position = 0; position < size; position += partSize, partNumber++) {
+                long offset = position;
+                long length = Math.min(partSize, size - position);
+                // 재시도 시 같은 구간을 처음부터 다시 읽도록 시도마다 새 스트림을 엶
+                RequestBody body = RequestBody.fromContentProvider(
+                    () -> openRange(source, offset, length), length, contentType);
+                String etag = client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(length)
+                        .build(),
+                    body).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+            }
+            client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        } catch (RuntimeException ex) {
+            abort(key, uploadId);
+            throw ex;
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .build());
+        } catch (SdkException ex) {
+            log.warn("멀티파트 업로드 중단 실패 - {}: {}", key, ex.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream get(String key) {
+        return getObject(GetObjectRequest.builder().bucket(bucket).key(key).build(), key);
+    }
+
+    @Override
+    public void stream(String key, long start, long count, OutputStream out) {
+        if (count <= 0) {
+            return;
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .range("bytes=" + start + "-" + (start + count - 1))
+            .build();
+        try (InputStream in = getObject(request, key)) {
+            in.transferTo(out);
+        } catch (IOException ex) {
+            throw new FileStorageException("파일을 전송할 수 없습니다: " + key, ex);
+        }
+    }
+
+    private ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request,
+        String key) {
+        try {
+            return client.getObject(request);
+        } catch (NoSuchKeyException ex) {
+            throw notFound(key);
+        } catch (SdkException ex) {
+            throw new FileStorageException("파일을 읽을 수 없습니다: " + key, ex);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException ex) {
+            throw new FileStorageException("파일 삭제 실패: " + key, ex);
+        }
+    }
+
+    // 오브젝트 스토리지에는 이동이 없으므로 서버 측 복사 후 원본 삭제
+    @Override
+    public boolean move(String sourceKey, String targetKey) {
+        try {
+            client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(sourceKey)
+                .destinationBucket(bucket)
+                .destinationKey(targetKey)
+                .build());
+        } catch (NoSuchKeyException ex) {
+            return false;
+        } catch (SdkException ex) {
+            throw new FileStorageException("파일 이동 실패: " + sourceKey, ex);
+        }
+        delete(sourceKey);
+        return true;
+    }
+
+    @Override
+    public Optional<StorageObject> stat(String key) {
+        try {
+            HeadObjectResponse head = client.headObject(HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+            return Optional.of(new StorageObject(key, head.contentLength(), head.lastModified(),
+                head.eTag()));
+        } catch (NoSuchKeyException ex) {
+            return Optional.empty();
+        } catch (S3Exception ex) {
+            // HEAD 응답에는 본문이 없어 404 가 일반 S3Exception 으로 오는 경우가 있음
+            if (ex.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new FileStorageException("파일 정보를 읽을 수 없습니다: " + key, ex);
+        } catch (SdkException ex) {
+            throw new FileStorageException("파일 정보를 읽을 수 없습니다: " + key, ex);
+        }
+    }
+
+    // 1000건 단위 페이지를 차례로 요청
+    @Override
+    public void list(String prefix, Consumer<StorageObject> action) {
+        try {
+            client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .build())
+                .contents()
+                .forEach(object -> action.accept(new StorageObject(object.key(), object.size(),
+                    object.lastModified(), object.eTag())));
+        } catch (SdkException ex) {
+            throw new FileStorageException("파일 목록을 읽을 수 없습니다: " + prefix, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static InputStream openRange(Path source, long offset, long length) {
+        try {
+            InputStream in = Files.newInputStream(source);
+            in.skipNBytes(offset);
+            return new RangeInputStream(in, length);
+        } catch (IOException ex) {
+            throw new FileStorageException("파일을 읽을 수 없습니다: " + source.getFileName(), ex);
+        }
+    }
+
+    private static ResourceNotFoundException notFound(String key) {
+        return new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
+            "파일을 찾을 수 없습니다. : " + key);
+    }
+
+    // 파일의 한 구간만 읽는 스트림
+    private static class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
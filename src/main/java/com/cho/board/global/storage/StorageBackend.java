@@ -0,0 +1,43 @@
+package com.cho.board.global.storage;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// 업로드 파일 저장소
+// key 는 '/' 로 구분한 상대 경로 (예: ab/cd/{hash}.png), 실패는 FileStorageException,
+// 없는 객체를 읽으면 ResourceNotFoundException
+public interface StorageBackend {
+
+    // 로컬 임시 파일의 내용을 key 로 저장하고 임시 파일은 삭제 (같은 key 가 있으면 덮어씀)
+    // 내용을 메모리에 올리지 않고 파일에서 바로 보냄
+    void put(String key, Path source, String contentType);
+
+    // 전체 내용 (호출한 쪽에서 닫아야 함)
+    InputStream get(String key);
+
+    // start 부터 count 바이트를 out 으로 전송 (Range 응답용)
+    void stream(String key, long start, long count, OutputStream out);
+
+    // 없는 key 는 무시
+    void delete(String key);
+
+    // 같은 저장소 안에서 이동 (원본이 없으면 false)
+    boolean move(String sourceKey, String targetKey);
+
+    Optional<StorageObject> stat(String key);
+
+    default boolean exists(String key) {
+        return stat(key).isPresent();
+    }
+
+    // prefix 로 시작하는 객체를 모두 순회 (하위 경로 포함)
+    void list(String prefix, Consumer<StorageObject> action);
+
+    // 로컬 파일로 바로 접근할 수 있는 저장소면 경로 (sendfile, 이미지 처리 등에서 복사 없이 사용)
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
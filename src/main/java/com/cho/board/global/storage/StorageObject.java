@@ -0,0 +1,12 @@
+package com.cho.board.global.storage;
+
+import java.time.Instant;
+
+// 저장소에 있는 객체 정보 (etag 는 저장소가 제공할 때만, 파일 시스템은 null)
+public record StorageObject(String key, long size, Instant lastModified, String etag) {
+
+    // key 의 마지막 경로 구분자 뒤 (= 업로드 파일명)
+    public String filename() {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+}
@@ -6,82 +6,262 @@ import static com.cho.board.global.constants.FileConstants.MAX_FILE_SIZE;
 import com.cho.board.global.exception.ErrorCode;
 import com.cho.board.global.exception.FileStorageException;
 import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.storage.FileSystemStorageBackend;
+import com.cho.board.global.storage.StorageBackend;
+import com.cho.board.global.storage.StorageObject;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 @Component
 public class FileStorageUtil {
 
-    private final Path profileStorageLocation;
-    private final Path postStorageLocation;
+    // 삭제 예정 파일을 잠시 옮겨 두는 저장소 경로
+    public static final String TRASH_PREFIX = ".trash/";
+
+    // 내용 해시(SHA-256) 로 이름 붙인 파일 + 그 축소본 (예: {hash}.png, {hash}_thumb.jpg)
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile(
+        "^([0-9a-f]{64})(_[a-z]+)?\\.[a-z0-9]+$");
+
+    // 이전 방식(UUID 이름) 파일 디렉토리 (프로필 -> 게시글 순) - 조회/삭제용으로만 사용
+    private final List<StorageBackend> legacyBackends;
+
+    // 내용 주소 저장소 ({hash 앞 2자리}/{다음 2자리}/{hash}.{ext}) - 로컬 디렉토리 또는 S3 호환 저장소
+    private final StorageBackend contentBackend;
+
+    // 업로드 임시 파일은 저장소 종류와 관계없이 로컬 디렉토리에 씀
+    private final Path tempLocation;
+    private final StorageBackend tempBackend;
 
     public FileStorageUtil(
         @Value("${file.profile-dir}") String profileDir,
-        @Value("${file.post-dir}") String postDir) {
+        @Value("${file.post-dir}") String postDir,
+        @Value("${file.store-dir}") String storeDir,
+        StorageBackend contentBackend) {
+
+        this.legacyBackends = List.of(
+            new FileSystemStorageBackend(Paths.get(profileDir)),
+            new FileSystemStorageBackend(Paths.get(postDir)));
+        this.contentBackend = contentBackend;
+        this.tempLocation = Paths.get(storeDir).toAbsolutePath().normalize().resolve(".tmp");
+        this.tempBackend = new FileSystemStorageBackend(tempLocation);
+    }
+
+    // 업로드를 임시 파일에 쓰면서 해시 계산 (저장소 반영은 commit)
+    public StagedFile stage(MultipartFile file) {
+        // 1. 기본 검증
+        validateFile(file);
 
-        this.profileStorageLocation = Paths.get(profileDir)
-            .toAbsolutePath().normalize();
-        this.postStorageLocation = Paths.get(postDir)
-            .toAbsolutePath().normalize();
+        // 2. 파일명 정리
+        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        if (originalFilename.contains("..")) {
+            throw new FileStorageException(ErrorCode.FILE_INVALID_PATH, originalFilename);
+        }
+        String fileExtension = getFileExtension(originalFilename).toLowerCase();
 
+        // 3. 한 번 읽으면서 임시 파일 쓰기 + SHA-256 계산
+        Path temp = null;
         try {
-            Files.createDirectories(this.profileStorageLocation);
-            Files.createDirectories(this.postStorageLocation);
+            temp = Files.createTempFile(tempLocation, "upload-", ".tmp");
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            // 같은 내용은 확장자와 관계없이 같은 이름 (축소본 이름 {hash}_*.jpg 도 해시 하나에만 대응)
+            return new StagedFile(temp, hash + "." + canonicalExtension(temp, fileExtension),
+                Files.size(temp));
         } catch (IOException ex) {
-            throw new FileStorageException(
-                "파일 저장 디렉토리를 생성할 수 없습니다.", ex);
+            deleteQuietly(temp);
+            throw new FileStorageException("파일 저장에 실패했습니다.: " + originalFilename, ex);
         }
     }
 
-    // 프로필 이미지 저장
-    public String storeProfileImage(MultipartFile file) {
-        return storeFile(file, profileStorageLocation);
+    // 내용(파일 시그니처)으로 판별한 확장자, 판별할 수 없으면 업로드 확장자 (jpeg -> jpg)
+    private static String canonicalExtension(Path file, String declared) throws IOException {
+        byte[] head = new byte[12];
+        int read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = in.readNBytes(head, 0, head.length);
+        }
+
+        if (read >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8
+            && (head[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (read >= 8 && (head[0] & 0xFF) == 0x89 && startsWith(head, 1, "PNG")) {
+            return "png";
+        }
+        if (read >= 6 && startsWith(head, 0, "GIF8")) {
+            return "gif";
+        }
+        if (read >= 12 && startsWith(head, 0, "RIFF") && startsWith(head, 8, "WEBP")) {
+            return "webp";
+        }
+        if (read >= 12 && startsWith(head, 4, "ftyp")
+            && (startsWith(head, 8, "heic") || startsWith(head, 8, "heix")
+            || startsWith(head, 8, "mif1"))) {
+            return "heic";
+        }
+        return "jpeg".equals(declared) ? "jpg" : declared;
     }
 
-    // 게시글 이미지 저장
-    public String storePostImage(MultipartFile file) {
-        return storeFile(file, postStorageLocation);
+    private static boolean startsWith(byte[] bytes, int offset, String ascii) {
+        for (int i = 0; i < ascii.length(); i++) {
+            if (bytes[offset + i] != (byte) ascii.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    // 파일 저장 (내부 메서드)
-    private String storeFile(MultipartFile file, Path storageLocation) {
-        // 1. 기본 검증
-        validateFile(file);
+    // 저장소에 반영 (같은 내용이 이미 있으면 그대로, 새로 만들었으면 true)
+    // 내용 주소라 여러 번 호출해도 결과가 같음 - 트랜잭션 밖에서 먼저 올리고, 행 잠금 안에서
+    // 그 사이 삭제되지 않았는지 한 번 더 확인하는 용도로 다시 호출
+    // 임시 파일은 다시 올릴 수 있도록 남겨 두므로, 끝나면 discard 로 삭제
+    public boolean commit(StagedFile staged) {
+        String key = contentKey(staged.filename());
+        if (contentBackend.exists(key)) {
+            return false;
+        }
 
-        // 2. 파일명 정리 및 UUID 추가
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-        String fileExtension = getFileExtension(originalFilename);
-        String storedFilename = UUID.randomUUID().toString() + "." + fileExtension;
+        Path upload = null;
+        try {
+            upload = linkOrCopy(staged.tempPath());
+            contentBackend.put(key, upload, contentType(staged.filename()));
+            return true;
+        } catch (IOException ex) {
+            throw new FileStorageException("파일 저장에 실패했습니다.: " + staged.filename(), ex);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
 
+    // 저장소가 원본을 이동/삭제하므로 임시 파일의 하드 링크(안 되면 복사본)를 넘김
+    private Path linkOrCopy(Path source) throws IOException {
+        Path target = tempLocation.resolve("put-" + UUID.randomUUID() + ".tmp");
         try {
-            // 경로 traversal 공격 방지
-            if (originalFilename.contains("..")) {
-                throw new FileStorageException(
-                    ErrorCode.FILE_INVALID_PATH, originalFilename);
-            }
+            return Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException ex) {
+            return Files.copy(source, target);
+        }
+    }
+
+    // 임시 파일 삭제 (저장소 반영 후, 또는 실패 시)
+    public void discard(StagedFile staged) {
+        deleteQuietly(staged.tempPath());
+    }
 
-            // 4. 파일 저장
-            Path targetLocation = storageLocation.resolve(storedFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+    // 파일 정리 작업용 저장소
+    public List<StorageBackend> getLegacyBackends() {
+        return legacyBackends;
+    }
 
-            return storedFilename;
+    public StorageBackend getContentBackend() {
+        return contentBackend;
+    }
 
-        } catch (IOException ex) {
-            throw new FileStorageException("파일 저장에 실패했습니다.: " + originalFilename, ex);
-        } finally {
+    public StorageBackend getTempBackend() {
+        return tempBackend;
+    }
+
+    public Path getTempLocation() {
+        return tempLocation;
+    }
+
+    public boolean isContentAddressed(String filename) {
+        return filename != null && CONTENT_ADDRESSED_NAME.matcher(filename).matches();
+    }
+
+    // 삭제 예정 파일을 임시 위치로 옮겨 두고 그 key 를 반환 (트랜잭션 커밋 후 purge, 롤백 시 restore)
+    // 옮기는 동안 같은 내용이 다시 업로드되어도 새 파일은 원래 위치에 그대로 저장된다
+    public String detach(String filename) {
+        String detached = TRASH_PREFIX + UUID.randomUUID();
+        return contentBackend.move(contentKey(filename), detached) ? detached : null;
+    }
+
+    public void restore(String detached, String filename) {
+        if (detached == null) {
+            return;
+        }
+        String key = contentKey(filename);
+        if (contentBackend.exists(key)) {
+            contentBackend.delete(detached);
+        } else {
+            contentBackend.move(detached, key);
+        }
+    }
+
+    // 원본과 축소본({base}_*) 을 함께 삭제하고 삭제한 파일명을 반환
+    public List<String> deleteWithVariants(String filename, String detached) {
+        List<String> deleted = new ArrayList<>();
+        StorageBackend backend;
+        String variantPrefix;
+
+        if (isContentAddressed(filename)) {
+            backend = contentBackend;
+            String key = contentKey(filename);
+            if (detached != null) {
+                backend.delete(detached);
+                deleted.add(filename);
+            } else if (backend.exists(key)) {
+                backend.delete(key);
+                deleted.add(filename);
+            }
+            variantPrefix = baseName(key) + "_";
 
+            // 같은 해시의 다른 확장자 원본(이전 업로드의 {hash}.jpeg 등)이 남아 있으면 축소본을 함께 쓰므로 유지
+            if (hasSiblingOriginal(backend, baseName(key) + ".")) {
+                return deleted;
+            }
+        } else {
+            StoredLocation location = findStoredFile(filename);
+            if (location == null) {
+                return deleted;
+            }
+            backend = location.backend();
+            backend.delete(location.key());
+            deleted.add(filename);
+            variantPrefix = baseName(location.key()) + "_";
+        }
+
+        List<StorageObject> variants = new ArrayList<>();
+        backend.list(variantPrefix, variants::add);
+        for (StorageObject variant : variants) {
+            backend.delete(variant.key());
+            deleted.add(variant.filename());
         }
+        return deleted;
+    }
+
+    private static boolean hasSiblingOriginal(StorageBackend backend, String originalPrefix) {
+        List<StorageObject> siblings = new ArrayList<>();
+        backend.list(originalPrefix, siblings::add);
+        return !siblings.isEmpty();
     }
 
     // 파일 검증
@@ -109,56 +289,146 @@ public class FileStorageUtil {
         return filename.substring(filename.lastIndexOf(".") + 1);
     }
 
-    public void deleteFile(String filename, boolean isProfile) {
+    // 저장된 파일 위치 (내용 주소 저장소 -> 프로필 -> 게시글 디렉토리 순으로 탐색, 저장 디렉토리 밖으로 벗어나는 이름은 거부)
+    public StoredLocation resolveStoredFile(String filename) {
+        StoredLocation location = findStoredFile(filename);
+        if (location == null) {
+            throw new ResourceNotFoundException(
+                ErrorCode.RESOURCE_NOT_FOUND, "파일을 찾을 수 없습니다. : " + filename);
+        }
+        return location;
+    }
+
+    private StoredLocation findStoredFile(String filename) {
+        if (isContentAddressed(filename)) {
+            return contentBackend.stat(contentKey(filename))
+                .map(object -> new StoredLocation(contentBackend, object))
+                .orElse(null);
+        }
+
+        for (StorageBackend backend : legacyBackends) {
+            Optional<StorageObject> object = backend.stat(filename);
+            if (object.isPresent()) {
+                return new StoredLocation(backend, object.get());
+            }
+        }
+        return null;
+    }
+
+    // 로컬 파일 경로가 필요한 작업용 (로컬 저장소는 그대로, 원격 저장소는 임시 디렉토리로 내려받아 넘김)
+    public <T> T readLocally(String filename, Function<Path, T> reader) {
+        StoredLocation location = resolveStoredFile(filename);
+        Optional<Path> local = location.backend().localPath(location.key());
+        if (local.isPresent()) {
+            return reader.apply(local.get());
+        }
+
+        Path directory = null;
         try {
-            Path storageLocation = isProfile ? profileStorageLocation : postStorageLocation;
-            Path filePath = storageLocation.resolve(filename).normalize();
-            Files.deleteIfExists(filePath);
+            directory = Files.createTempDirectory(tempLocation, "read-");
+            Path copy = directory.resolve(filename);
+            try (InputStream in = location.backend().get(location.key())) {
+                Files.copy(in, copy);
+            }
+            return reader.apply(copy);
         } catch (IOException ex) {
-            throw new FileStorageException("파일 삭제에 실패했습니다: " + filename, ex);
+            throw new FileStorageException("파일을 읽을 수 없습니다: " + filename, ex);
+        } finally {
+            deleteDirectoryQuietly(directory);
+        }
+    }
+
+    // 원본과 같은 저장소에 축소본 저장 (source 는 이동/삭제됨)
+    public void storeVariant(String originalFilename, String variantFilename, Path source) {
+        if (isContentAddressed(variantFilename)) {
+            contentBackend.put(contentKey(variantFilename), source, contentType(variantFilename));
+            return;
         }
+        StoredLocation original = resolveStoredFile(originalFilename);
+        original.backend().put(variantFilename, source, contentType(variantFilename));
     }
 
     // 파일 리소스 로드 (다운로드/조회용)
     public Resource loadFileAsResource(String filename) {
+        StoredLocation location = resolveStoredFile(filename);
+        return location.backend().localPath(location.key())
+            .<Resource>map(FileSystemResource::new)
+            .orElseGet(() -> new InputStreamResource(location.backend().get(location.key())));
+    }
+
+    // 파일 삭제
+    public void deleteFile(String filename) {
+        if (isContentAddressed(filename)) {
+            contentBackend.delete(contentKey(filename));
+            return;
+        }
+        StoredLocation location = findStoredFile(filename);
+        if (location != null) {
+            location.backend().delete(location.key());
+        }
+    }
+
+    // 해시 앞 4자리로 두 단계 디렉토리를 나눠 한 디렉토리에 파일이 몰리지 않게 함
+    private String contentKey(String filename) {
+        Matcher matcher = CONTENT_ADDRESSED_NAME.matcher(filename);
+        if (!matcher.matches()) {
+            throw new FileStorageException(ErrorCode.FILE_INVALID_PATH, filename);
+        }
+        String hash = matcher.group(1);
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + filename;
+    }
+
+    private static String contentType(String filename) {
+        return MediaTypeFactory.getMediaType(filename)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM)
+            .toString();
+    }
+
+    private static String baseName(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
         try {
-            Path profilePath = profileStorageLocation.resolve(filename).normalize();
-            Path postPath = postStorageLocation.resolve(filename).normalize();
-
-            Resource resource;
-            if (Files.exists(profilePath)) {
-                resource = new UrlResource(profilePath.toUri());
-            } else if (Files.exists(postPath)) {
-                resource = new UrlResource(postPath.toUri());
-            } else {
-                throw new ResourceNotFoundException(
-                    ErrorCode.RESOURCE_NOT_FOUND, "파일을 찾을 수 없습니다. : " + filename);
-            }
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            // 남은 임시 파일은 정리 작업에서 삭제
+        }
+    }
 
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw new ResourceNotFoundException(ErrorCode.RESOURCE_NOT_FOUND,
-                    "파일을 읽을 수 없습니다. " + filename);
-            }
-        } catch (MalformedURLException e) {
-            throw new FileStorageException("파일 경로 오류: " + filename);
+    private static void deleteDirectoryQuietly(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException ex) {
+            // 남은 임시 파일은 정리 작업에서 삭제
         }
     }
 
-    // 파일 삭제
-    public void deleteFile(String filename) {
+    private static MessageDigest sha256() {
         try {
-            Path profilePath = profileStorageLocation.resolve(filename).normalize();
-            Path postPath = postStorageLocation.resolve(filename).normalize();
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-            if (Files.exists(profilePath)) {
-                Files.delete(profilePath);
-            } else if (Files.exists(postPath)) {
-                Files.delete(postPath);
-            }
-        } catch (IOException e) {
-            throw new FileStorageException("파일 삭제 실패: " + filename);
+    // 해시 계산까지 끝났지만 아직 저장소에 반영되지 않은 업로드
+    public record StagedFile(Path tempPath, String filename, long size) {
+
+    }
+
+    // 저장된 파일이 있는 저장소와 그 안의 객체
+    public record StoredLocation(StorageBackend backend, StorageObject object) {
+
+        public String key() {
+            return object.key();
         }
     }
 }
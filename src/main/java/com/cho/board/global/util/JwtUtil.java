@@ -2,12 +2,23 @@ package com.cho.board.global.util;
 
 import com.cho.board.global.config.JwtProperties;
 import com.cho.board.global.exception.CustomJwtException;
+import com.cho.board.user.entity.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,69 +27,148 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtUtil {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    // 토큰 종류 : Bearer 인증에는 Access Token 만 사용
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtProperties jwtProperties;
     private final SecretKey signingKey;
 
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성
+    private final JwtParser jwtParser;
+
+    // 서명 검증을 통과한 토큰의 클레임 (키는 토큰 원문이 아닌 SHA-256 해시, 토큰 만료 시각에 함께 만료)
+    private final Cache<String, Claims> claimsCache;
+
     public JwtUtil(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         this.signingKey = Keys.hmacShaKeyFor(
             jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
         );
+        this.jwtParser = Jwts.parser()
+            .verifyWith(signingKey)
+            .build();
+        this.claimsCache = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getClaimsCacheSize())
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+    }
+
+    // Access Token 생성 (인증 주체를 DB 조회 없이 만들 수 있도록 사용자 ID 와 권한 포함)
+    public String generateAccessToken(Long userId, String email, Role role) {
+        return generateAccessToken(userId, email, role, null);
     }
 
-    // Access Token 생성
-    public String generateAccessToken(String email) {
+    // 로그인 세션 ID 를 포함하면 세션이 폐기될 때 만료 전이라도 인증되지 않음
+    public String generateAccessToken(Long userId, String email, Role role, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getAccessTokenValidity());
 
         return Jwts.builder()
             .subject(email)
+            .claim(USER_ID_CLAIM, userId)
+            .claim(ROLE_CLAIM, role.name())
+            .claim(SESSION_ID_CLAIM, sessionId)
+            .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
             .issuedAt(now)
             .expiration(expiryDate)
             .signWith(signingKey)
             .compact();
     }
 
-    // Refresh Token 생성
-    public String generateRefreshToken(String email) {
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshTokenValidity());
-
+    // Refresh Token 생성 (jti 로 저장된 토큰을 찾고, sid 로 로그인 세션을 구분)
+    public String generateRefreshToken(String email, String tokenId, String sessionId,
+        Date expiryDate) {
         return Jwts.builder()
+            .id(tokenId)
             .subject(email)
-            .issuedAt(now)
+            .claim(SESSION_ID_CLAIM, sessionId)
+            .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+            .issuedAt(new Date())
             .expiration(expiryDate)
             .signWith(signingKey)
             .compact();
     }
 
+    // Token 검증 후 클레임 반환 (한 번 검증된 토큰은 만료 전까지 캐시에서 바로 반환)
+    public Claims parseClaims(String token) {
+        String key = hash(token);
+        Claims cached = claimsCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = verify(token);
+        claimsCache.put(key, claims);
+        return claims;
+    }
+
     // Token 에서 이메일 추출
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(signingKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     // Token 유효성 검증
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+
+    private Claims verify(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.warn("만료된 토큰: {}", e.getMessage());
             throw new CustomJwtException("토큰이 만료되었습니다");
         } catch (MalformedJwtException e) {
             log.warn("잘못된 형식의 토큰: {}", e.getMessage());
             throw new CustomJwtException("유효하지 않은 토큰입니다");
-        } catch (SecurityException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             log.warn("서명 검증 실패: {}", e.getMessage());
             throw new CustomJwtException("토큰 검증에 실패했습니다");
         }
     }
+
+    // 토큰 원문 대신 저장/비교할 SHA-256 (hex)
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 이 SHA-256 을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 항목을 토큰의 exp 시각까지만 유지
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
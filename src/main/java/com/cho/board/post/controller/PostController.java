@@ -1,12 +1,14 @@
 package com.cho.board.post.controller;
 
+import com.cho.board.global.constants.PageConstants;
 import com.cho.board.global.response.ApiResponse;
+import com.cho.board.global.response.CursorSliceResponse;
 import com.cho.board.post.dtos.PostCreateRequest;
 import com.cho.board.post.dtos.PostDetailResponse;
 import com.cho.board.post.dtos.PostListResponse;
 import com.cho.board.post.dtos.PostSearchCondition;
 import com.cho.board.post.dtos.PostUpdateRequest;
-import com.cho.board.post.entity.Post;
+import com.cho.board.post.service.PopularPostService;
 import com.cho.board.post.service.PostService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -36,6 +39,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class PostController {
 
     private final PostService postService;
+    private final PopularPostService popularPostService;
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
@@ -55,15 +59,37 @@ public class PostController {
         @PageableDefault(size = 20, sort = "createdAt", direction = Direction.DESC)
         Pageable pageable
     ) {
-        Page<PostListResponse> posts = postService.findAll(pageable)
-            .map(PostListResponse::from);
+        Page<PostListResponse> posts = postService.getPostList(pageable);
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
+    // 커서 기반 목록 조회 (sort : createdAt | viewCount, 내림차순)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorSliceResponse<PostListResponse>>> findAllByCursor(
+        @RequestParam(required = false) String keyword,
+        @RequestParam(required = false) Long categoryId,
+        @RequestParam(defaultValue = PageConstants.DEFAULT_SORT_FIELD) String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorSliceResponse<PostListResponse> posts =
+            postService.searchPostsByCursor(keyword, categoryId, sort, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(posts));
+    }
+
+    // 인기 게시글 (categoryId 가 없으면 전체 기준, 주기적으로 미리 계산된 목록)
+    @GetMapping("/popular")
+    public ResponseEntity<ApiResponse<List<PostListResponse>>> findPopular(
+        @RequestParam(required = false) Long categoryId
+    ) {
+        List<PostListResponse> posts = popularPostService.getPopularPosts(categoryId);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<PostDetailResponse>> findById(@PathVariable Long id) {
-        Post post = postService.findByIdWithViewCount(id);
-        return ResponseEntity.ok(ApiResponse.success(PostDetailResponse.from(post)));
+        PostDetailResponse response = postService.findByIdWithViewCount(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @PutMapping("/{id}")
@@ -2,6 +2,8 @@ package com.cho.board.post.dtos;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,4 +24,8 @@ public class PostCreateRequest {
     @NotNull(message = "카테고리는 필수입니다.")
     private Long categoryId;
 
+    // 에디터에서 /files/temp 로 먼저 올린 이미지 파일명 (게시글에 연결)
+    @Size(max = 10, message = "이미지는 최대 10개까지 첨부할 수 있습니다.")
+    private List<String> imageFilenames;
+
 }
@@ -0,0 +1,87 @@
+package com.cho.board.post.dtos;
+
+import com.cho.board.global.exception.BusinessException;
+import com.cho.board.global.exception.ErrorCode;
+import com.cho.board.post.entity.Post;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 키셋(seek) 페이징 커서
+// 정렬 키 값 + id 를 Base64 로 감싼 불투명 문자열로 주고받는다
+@Getter
+@RequiredArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final SortKey sortKey;
+    private final LocalDateTime createdAt;
+    private final Long viewCount;
+    private final Long id;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum SortKey {
+        CREATED_AT("createdAt"),
+        VIEW_COUNT("viewCount");
+
+        private final String property;
+
+        public static SortKey from(String property) {
+            if (property == null || property.isBlank()) {
+                return CREATED_AT;
+            }
+            for (SortKey key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            throw new BusinessException(ErrorCode.INVALID_CURSOR,
+                "커서 페이징은 createdAt, viewCount 정렬만 지원합니다: " + property);
+        }
+    }
+
+    // 페이지의 마지막 게시글로 다음 커서 생성
+    public static PostCursor of(SortKey sortKey, Post last) {
+        return sortKey == SortKey.VIEW_COUNT
+            ? new PostCursor(sortKey, null, last.getViewCount(), last.getId())
+            : new PostCursor(sortKey, last.getCreatedAt(), null, last.getId());
+    }
+
+    public String encode() {
+        String value = sortKey == SortKey.VIEW_COUNT
+            ? String.valueOf(viewCount)
+            : createdAt.toString();
+        String raw = sortKey.name() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 요청한 정렬 기준과 다른 커서는 거부
+    public static PostCursor decode(String cursor, SortKey expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+
+            SortKey sortKey = SortKey.valueOf(parts[0]);
+            if (sortKey != expected) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR,
+                    "커서의 정렬 기준이 요청과 다릅니다");
+            }
+
+            Long id = Long.parseLong(parts[2]);
+            return sortKey == SortKey.VIEW_COUNT
+                ? new PostCursor(sortKey, null, Long.parseLong(parts[1]), id)
+                : new PostCursor(sortKey, LocalDateTime.parse(parts[1]), null, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
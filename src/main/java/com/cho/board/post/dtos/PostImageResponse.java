@@ -10,6 +10,9 @@ public class PostImageResponse {
 
     private Long id;
     private String filePath;
+    // 축소본 (준비 전에는 원본 파일명)
+    private String thumbnailPath;
+    private String mediumPath;
     private String originalFilename;
     private Long fileSize;
     private Integer displayOrder;
@@ -18,6 +21,8 @@ public class PostImageResponse {
         return PostImageResponse.builder()
             .id(image.getId())
             .filePath(image.getFilePath())
+            .thumbnailPath(image.getThumbnailOrOriginal())
+            .mediumPath(image.getMediumOrOriginal())
             .originalFilename(image.getOriginalFilename())
             .fileSize(image.getFileSize())
             .displayOrder(image.getDisplayOrder())
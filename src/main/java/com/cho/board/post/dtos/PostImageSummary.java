@@ -0,0 +1,14 @@
+package com.cho.board.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글별 대표 이미지 경로와 이미지 개수
+@Getter
+@AllArgsConstructor
+public class PostImageSummary {
+
+    private Long postId;
+    private String thumbnailPath;
+    private Long imageCount;
+}
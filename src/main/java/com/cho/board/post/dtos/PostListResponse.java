@@ -5,18 +5,15 @@ import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 
 @Getter
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 public class PostListResponse extends PostBaseResponse {
 
     private String thumbnailPath;
     private Integer imageCount;
+    private Long commentCount;
 
-    public static PostListResponse from(Post post) {
-
-        String thumbnail = post.getImages().isEmpty()
-            ? null
-            : post.getImages().get(0).getFilePath();
-
+    // 이미지 요약을 따로 조회한 경우 (images 컬렉션 초기화 없음)
+    public static PostListResponse from(Post post, PostImageSummary images) {
         return PostListResponse.builder()
             .id(post.getId())
             .title(post.getTitle())
@@ -24,10 +21,23 @@ public class PostListResponse extends PostBaseResponse {
             .categoryType(post.getCategory().getCategoryType())
             .createdAt(post.getCreatedAt())
             .viewCount(post.getViewCount())
+            .commentCount(post.getCommentCount())
+            .thumbnailPath(images != null ? images.getThumbnailPath() : null)
+            .imageCount(images != null ? images.getImageCount().intValue() : 0)
+            .build();
+    }
 
-            // 자식 클래스 필드
-            .thumbnailPath(thumbnail)
-            .imageCount(post.getImages().size())
+    public static PostListResponse from(PostListRow row, PostImageSummary images) {
+        return PostListResponse.builder()
+            .id(row.getId())
+            .title(row.getTitle())
+            .authorName(row.getAuthorName())
+            .categoryType(row.getCategoryType())
+            .createdAt(row.getCreatedAt())
+            .viewCount(row.getViewCount())
+            .commentCount(row.getCommentCount())
+            .thumbnailPath(images != null ? images.getThumbnailPath() : null)
+            .imageCount(images != null ? images.getImageCount().intValue() : 0)
             .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.cho.board.post.dtos;
+
+import com.cho.board.category.entity.CategoryType;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록 조회용 프로젝션 (엔티티/이미지 컬렉션을 로딩하지 않음)
+@Getter
+@AllArgsConstructor
+public class PostListRow {
+
+    private Long id;
+    private String title;
+    private String authorName;
+    private CategoryType categoryType;
+    private LocalDateTime createdAt;
+    private Long viewCount;
+    private Long commentCount;
+}
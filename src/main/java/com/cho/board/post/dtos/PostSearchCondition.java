@@ -7,6 +7,8 @@ import lombok.Getter;
 @Builder
 public class PostSearchCondition {
 
+    // 제목/본문/작성자 통합 검색어 (검색 색인 사용)
+    private String keyword;
     private String title;
     private String content;
     private String author;
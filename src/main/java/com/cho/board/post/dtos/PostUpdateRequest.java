@@ -1,6 +1,7 @@
 package com.cho.board.post.dtos;
 
 import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,4 +21,8 @@ public class PostUpdateRequest {
 
     private Long categoryId;
 
+    // 에디터에서 /files/temp 로 먼저 올린 이미지 파일명 (게시글에 연결)
+    @Size(max = 10, message = "이미지는 최대 10개까지 첨부할 수 있습니다.")
+    private List<String> imageFilenames;
+
 }
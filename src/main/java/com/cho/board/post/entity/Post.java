@@ -24,6 +24,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(
@@ -35,6 +36,7 @@ import lombok.NoArgsConstructor;
     })
 @Getter
 @Builder
+@DynamicUpdate // 조회수/댓글 수처럼 별도 UPDATE 로 갱신되는 컬럼을 엔티티 수정 시 덮어쓰지 않도록 변경 컬럼만 반영
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
@@ -54,6 +56,11 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private Long viewCount = 0L;
 
+    // 삭제되지 않은 댓글 수 (댓글 작성/삭제 시 원자적 UPDATE 로 갱신)
+    @Builder.Default
+    @Column(nullable = false)
+    private Long commentCount = 0L;
+
     @Column
     private LocalDateTime scheduledAt;
 
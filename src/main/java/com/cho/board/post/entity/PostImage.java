@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,7 +17,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_images")
+@Table(
+    name = "post_images",
+    indexes = {
+        // 파일 정리 작업의 참조 확인용
+        @Index(name = "idx_post_images_file_path", columnList = "file_path")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostImage extends BaseEntity {
@@ -41,6 +47,13 @@ public class PostImage extends BaseEntity {
     @Column(name = "display_order")
     private Integer displayOrder;
 
+    // 업로드 후 비동기로 생성되는 축소본 (생성 전이거나 생성할 수 없는 형식이면 null)
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+
+    @Column(name = "medium_path")
+    private String mediumPath;
+
     @Builder
     public PostImage(Post post, String filePath, String originalFilename,
         Long fileSize, Integer displayOrder) {
@@ -55,4 +68,18 @@ public class PostImage extends BaseEntity {
         this.post = post;
     }
 
+    public void attachVariants(String thumbnailPath, String mediumPath) {
+        this.thumbnailPath = thumbnailPath;
+        this.mediumPath = mediumPath;
+    }
+
+    // 축소본이 준비되기 전에는 원본으로 대체
+    public String getThumbnailOrOriginal() {
+        return thumbnailPath != null ? thumbnailPath : filePath;
+    }
+
+    public String getMediumOrOriginal() {
+        return mediumPath != null ? mediumPath : filePath;
+    }
+
 }
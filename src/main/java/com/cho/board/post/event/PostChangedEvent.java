@@ -0,0 +1,27 @@
+package com.cho.board.post.event;
+
+// 게시글 생성/수정/삭제 이벤트 (커밋 이후 검색 색인, 캐시 등에 반영)
+public record PostChangedEvent(Long postId, Type type) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        // 게시글 본문은 그대로이고 첨부 이미지만 바뀐 경우
+        IMAGES_CHANGED
+    }
+
+    public static PostChangedEvent created(Long postId) {
+        return new PostChangedEvent(postId, Type.CREATED);
+    }
+
+    public static PostChangedEvent updated(Long postId) {
+        return new PostChangedEvent(postId, Type.UPDATED);
+    }
+
+    public static PostChangedEvent deleted(Long postId) {
+        return new PostChangedEvent(postId, Type.DELETED);
+    }
+
+    public static PostChangedEvent imagesChanged(Long postId) {
+        return new PostChangedEvent(postId, Type.IMAGES_CHANGED);
+    }
+}
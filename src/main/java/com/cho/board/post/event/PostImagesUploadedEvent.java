@@ -0,0 +1,8 @@
+package com.cho.board.post.event;
+
+import java.util.List;
+
+// 게시글 이미지 업로드 이벤트 (커밋 이후 썸네일/중간 크기 축소본 생성)
+public record PostImagesUploadedEvent(Long postId, List<Long> imageIds) {
+
+}
@@ -0,0 +1,8 @@
+package com.cho.board.post.event;
+
+import java.util.List;
+
+// 누적 조회수가 DB 에 반영된 게시글 목록
+public record PostViewCountsFlushedEvent(List<Long> postIds) {
+
+}
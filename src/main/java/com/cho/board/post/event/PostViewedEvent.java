@@ -0,0 +1,6 @@
+package com.cho.board.post.event;
+
+// 게시글 상세 조회 이벤트
+public record PostViewedEvent(Long postId, Long categoryId) {
+
+}
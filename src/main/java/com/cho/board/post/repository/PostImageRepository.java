@@ -1,8 +1,11 @@
 package com.cho.board.post.repository;
 
 import com.cho.board.post.entity.PostImage;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
 
@@ -11,4 +14,8 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
 
     // 게시글의 이미지 개수 카운트
     long countByPostId(Long postId);
+
+    // 주어진 파일명 중 게시글 이미지 원본으로 참조되는 것
+    @Query("SELECT p.filePath FROM PostImage p WHERE p.filePath IN :filenames")
+    List<String> findReferencedFilePaths(@Param("filenames") Collection<String> filenames);
 }
@@ -1,12 +1,15 @@
 package com.cho.board.post.repository;
 
 import com.cho.board.post.entity.Post;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -44,5 +47,31 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
         "LEFT JOIN FETCH p.author " +
         "LEFT JOIN FETCH p.category " +
         "WHERE p.id = :id")
-    Optional<Post> findByIdWithFetchJoin(@Param("id") Long id);;
+    Optional<Post> findByIdWithFetchJoin(@Param("id") Long id);
+
+    // ID 목록으로 한 번에 조회 (검색 색인 결과 등 순서는 호출 측에서 맞춤)
+    @Query("SELECT p FROM Post p " +
+        "LEFT JOIN FETCH p.author " +
+        "LEFT JOIN FETCH p.category " +
+        "WHERE p.id IN :ids")
+    List<Post> findAllWithAuthorAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 : since 이후 수정된 게시글을 id 순으로 조회
+    @Query("SELECT p FROM Post p " +
+        "LEFT JOIN FETCH p.author " +
+        "LEFT JOIN FETCH p.category " +
+        "WHERE (p.updatedAt IS NULL OR p.updatedAt >= :since) AND p.id > :afterId " +
+        "ORDER BY p.id ASC")
+    List<Post> findForIndexing(
+        @Param("since") LocalDateTime since,
+        @Param("afterId") Long afterId,
+        Pageable pageable);
+
+    @Query("SELECT p.id FROM Post p")
+    List<Long> findAllIds();
+
+    // 댓글 수 원자적 증감 (엔티티를 읽고 쓰지 않아 동시 작성에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
 }
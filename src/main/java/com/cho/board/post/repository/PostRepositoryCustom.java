@@ -1,7 +1,13 @@
 package com.cho.board.post.repository;
 
+import com.cho.board.post.dtos.PostCursor;
+import com.cho.board.post.dtos.PostImageSummary;
+import com.cho.board.post.dtos.PostListRow;
 import com.cho.board.post.dtos.PostSearchCondition;
 import com.cho.board.post.entity.Post;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,4 +20,22 @@ public interface PostRepositoryCustom {
         Long categoryId,
         Pageable pageable
     );
+
+    // 키셋 페이징 : cursor 이후의 게시글을 limit 개 조회 (cursor 가 null 이면 첫 페이지)
+    List<Post> searchPostsByCursor(
+        String keyword,
+        Long categoryId,
+        PostCursor.SortKey sortKey,
+        PostCursor cursor,
+        int limit
+    );
+
+    // 목록 페이지 : 엔티티 대신 필요한 컬럼만 프로젝션
+    Page<PostListRow> findPostListRows(Pageable pageable);
+
+    // ID 목록에 해당하는 목록용 프로젝션 (순서는 호출 측에서 맞춤)
+    List<PostListRow> findPostListRowsByIds(Collection<Long> postIds);
+
+    // 게시글 ID 별 대표 이미지/이미지 개수 (페이지 전체를 쿼리 한 번으로)
+    Map<Long, PostImageSummary> findImageSummaries(Collection<Long> postIds);
 }
@@ -2,29 +2,45 @@ package com.cho.board.post.repository;
 
 import static com.cho.board.category.entity.QCategory.category;
 import static com.cho.board.post.entity.QPost.post;
+import static com.cho.board.post.entity.QPostImage.postImage;
 import static com.cho.board.user.entity.QUser.user;
 import static org.springframework.util.StringUtils.hasText;
 
+import com.cho.board.post.dtos.PostCursor;
+import com.cho.board.post.dtos.PostCursor.SortKey;
+import com.cho.board.post.dtos.PostImageSummary;
+import com.cho.board.post.dtos.PostListRow;
 import com.cho.board.post.dtos.PostSearchCondition;
 import com.cho.board.post.entity.Post;
+import com.cho.board.post.entity.QPostImage;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 
 
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final PostSearchCountCache countCache;
 
     @Override
     public Page<Post> searchPosts(PostSearchCondition condition, Pageable pageable) {
@@ -43,7 +59,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             .orderBy(post.createdAt.desc())
             .fetch();
 
-        Long total = queryFactory
+        JPAQuery<Long> countQuery = queryFactory
             .select(post.count())
             .from(post)
             .where(
@@ -51,13 +67,21 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 contentContains(condition.getContent()),
                 authorNameContains(condition.getAuthor()),
                 categoryIdEq(condition.getCategoryId())
-            )
-            .fetchOne();
+            );
+
+        List<Object> countKey = Arrays.asList("search",
+            normalize(condition.getTitle()),
+            normalize(condition.getContent()),
+            normalize(condition.getAuthor()),
+            condition.getCategoryId());
 
-        return new PageImpl<>(content, pageable, total);
+        // 첫 페이지가 다 차지 않았거나 마지막 페이지면 count 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> countCache.get(countKey, () -> fetchCount(countQuery)));
     }
 
     // 동적 조건 메서드들
+    // 대소문자 처리는 DB 콜레이션에 맡김 (MySQL 은 _ci 콜레이션이라 LOWER() 없이도 대소문자 구분 없이 일치)
     private BooleanExpression titleContains(String title) {
         return hasText(title) ? post.title.contains(title) : null;
     }
@@ -77,19 +101,7 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
 
     @Override
     public Page<Post> searchPostsWithFilters(String keyword, Long categoryId, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        if (keyword != null && !keyword.isBlank()) {
-            builder.and(
-                post.title.containsIgnoreCase(keyword)
-                    .or(post.content.containsIgnoreCase(keyword))
-                    .or(post.author.name.containsIgnoreCase(keyword))
-            );
-        }
-
-        if (categoryId != null) {
-            builder.and(post.category.id.eq(categoryId));
-        }
+        BooleanBuilder builder = filterCondition(keyword, categoryId);
 
         List<Post> content = queryFactory
             .selectFrom(post)
@@ -101,13 +113,163 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             .orderBy(getOrderSpecifiers(pageable.getSort()))
             .fetch();
 
-        Long total = queryFactory
+        JPAQuery<Long> countQuery = queryFactory
             .select(post.count())
             .from(post)
+            .where(builder);
+
+        List<Object> countKey = Arrays.asList("filters",
+            normalize(keyword),
+            categoryId);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> countCache.get(countKey, () -> fetchCount(countQuery)));
+    }
+
+    private long fetchCount(JPAQuery<Long> countQuery) {
+        Long total = countQuery.fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    // 캐시 키용 검색어 정규화 (null, 공백뿐인 값은 조건 없음으로 취급)
+    // 통합 검색은 containsIgnoreCase, 조건 검색은 _ci 콜레이션 비교라 대소문자만 다른 검색어는 같은 키
+    private String normalize(String value) {
+        return hasText(value) ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    @Override
+    public List<Post> searchPostsByCursor(
+        String keyword,
+        Long categoryId,
+        SortKey sortKey,
+        PostCursor cursor,
+        int limit
+    ) {
+        BooleanBuilder builder = filterCondition(keyword, categoryId);
+        if (cursor != null) {
+            builder.and(seekCondition(cursor));
+        }
+
+        // offset 없이 (정렬 키, id) 인덱스 순서대로 limit 개만 읽는다
+        OrderSpecifier<?> primaryOrder = sortKey == SortKey.VIEW_COUNT
+            ? post.viewCount.desc()
+            : post.createdAt.desc();
+
+        return queryFactory
+            .selectFrom(post)
+            .leftJoin(post.author).fetchJoin()
+            .leftJoin(post.category).fetchJoin()
             .where(builder)
-            .fetchOne();
+            .orderBy(primaryOrder, post.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public Page<PostListRow> findPostListRows(Pageable pageable) {
+        List<PostListRow> content = queryFactory
+            .select(postListRow())
+            .from(post)
+            .leftJoin(post.author, user)
+            .leftJoin(post.category, category)
+            .orderBy(getOrderSpecifiers(pageable.getSort()))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+            .select(post.count())
+            .from(post);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> fetchCount(countQuery));
+    }
+
+    @Override
+    public List<PostListRow> findPostListRowsByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+            .select(postListRow())
+            .from(post)
+            .leftJoin(post.author, user)
+            .leftJoin(post.category, category)
+            .where(post.id.in(postIds))
+            .fetch();
+    }
+
+    @Override
+    public Map<Long, PostImageSummary> findImageSummaries(Collection<Long> postIds) {
+        Map<Long, PostImageSummary> summaries = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return summaries;
+        }
+
+        QPostImage first = new QPostImage("first");
+        QPostImage counted = new QPostImage("counted");
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0);
+        // 게시글별 displayOrder 가 가장 작은 이미지 + 같은 게시글의 이미지 개수
+        // (썸네일이 아직 없으면 원본 파일)
+        List<PostImageSummary> rows = queryFactory
+            .select(Projections.constructor(PostImageSummary.class,
+                postImage.post.id,
+                postImage.thumbnailPath.coalesce(postImage.filePath),
+                JPAExpressions.select(counted.count())
+                    .from(counted)
+                    .where(counted.post.id.eq(postImage.post.id))))
+            .from(postImage)
+            .where(
+                postImage.post.id.in(postIds),
+                postImage.displayOrder.eq(
+                    JPAExpressions.select(first.displayOrder.min())
+                        .from(first)
+                        .where(first.post.id.eq(postImage.post.id)))
+            )
+            .orderBy(postImage.id.asc())
+            .fetch();
+
+        // displayOrder 가 같은 이미지가 여럿이면 먼저 등록된 것 사용
+        rows.forEach(row -> summaries.putIfAbsent(row.getPostId(), row));
+        return summaries;
+    }
+
+    private ConstructorExpression<PostListRow> postListRow() {
+        return Projections.constructor(PostListRow.class,
+            post.id,
+            post.title,
+            user.name,
+            category.categoryType,
+            post.createdAt,
+            post.viewCount,
+            post.commentCount);
+    }
+
+    private BooleanBuilder filterCondition(String keyword, Long categoryId) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (keyword != null && !keyword.isBlank()) {
+            builder.and(
+                post.title.containsIgnoreCase(keyword)
+                    .or(post.content.containsIgnoreCase(keyword))
+                    .or(post.author.name.containsIgnoreCase(keyword))
+            );
+        }
+
+        if (categoryId != null) {
+            builder.and(post.category.id.eq(categoryId));
+        }
+        return builder;
+    }
+
+    // (key, id) < (cursor.key, cursor.id) 를 인덱스 범위 검색이 가능한 형태로 전개
+    // key <= ? AND (key < ? OR id < ?)
+    private BooleanExpression seekCondition(PostCursor cursor) {
+        if (cursor.getSortKey() == SortKey.VIEW_COUNT) {
+            return post.viewCount.loe(cursor.getViewCount())
+                .and(post.viewCount.lt(cursor.getViewCount()).or(post.id.lt(cursor.getId())));
+        }
+        return post.createdAt.loe(cursor.getCreatedAt())
+            .and(post.createdAt.lt(cursor.getCreatedAt()).or(post.id.lt(cursor.getId())));
     }
 
     private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
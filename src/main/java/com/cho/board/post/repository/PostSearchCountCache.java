@@ -0,0 +1,25 @@
+package com.cho.board.post.repository;
+
+import com.cho.board.global.constants.CacheNames;
+import java.util.function.LongSupplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+// 검색 조건별 전체 개수 캐시
+// 같은 조건으로 페이지를 넘길 때마다 count 쿼리를 다시 실행하지 않도록 짧은 TTL 동안 보관
+@Component
+public class PostSearchCountCache {
+
+    private final Cache cache;
+
+    public PostSearchCountCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheNames.POST_SEARCH_COUNT);
+    }
+
+    // key 는 정규화된 검색 조건 (equals/hashCode 로 비교 가능한 값)
+    public long get(Object key, LongSupplier counter) {
+        Long count = cache.get(key, counter::getAsLong);
+        return count != null ? count : 0L;
+    }
+}
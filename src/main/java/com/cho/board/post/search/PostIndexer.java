@@ -0,0 +1,124 @@
+package com.cho.board.post.search;
+
+import com.cho.board.post.entity.Post;
+import com.cho.board.post.event.PostChangedEvent;
+import com.cho.board.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+// 검색 색인 유지
+// 시작 시 스냅샷을 읽고 그 이후 변경분만 재색인, 이후에는 게시글 변경 이벤트로 갱신
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostIndexer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    // 비어 있으면 디스크에 저장하지 않음
+    @Value("${post.search.index-path:}")
+    private String indexPath;
+
+    private volatile boolean dirty;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        boolean loaded = isPersistent() && postSearchIndex.load(Path.of(indexPath));
+
+        // 스냅샷 이후 삭제된 게시글 정리
+        if (loaded) {
+            int removed = postSearchIndex.retainAll(postRepository.findAllIds());
+            log.info("검색 색인 스냅샷 로드 - 게시글 {}건, 삭제 반영 {}건",
+                postSearchIndex.size(), removed);
+        }
+
+        // 스냅샷 이후 생성/수정된 게시글만 색인 (스냅샷이 없으면 전체)
+        LocalDateTime since = postSearchIndex.getWatermark();
+        int indexed = 0;
+        long afterId = 0L;
+        List<Post> batch;
+        do {
+            batch = postRepository.findForIndexing(since, afterId, PageRequest.of(0, BATCH_SIZE));
+            batch.forEach(this::index);
+            indexed += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        postSearchIndex.markReady();
+        dirty = indexed > 0;
+        saveSnapshot();
+
+        log.info("검색 색인 준비 완료 - 재색인 {}건, 전체 {}건, {}ms",
+            indexed, postSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    // 커밋된 변경만 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> postRepository.findWithUserAndCategoryById(event.postId())
+                .ifPresent(this::index);
+            case DELETED -> postSearchIndex.remove(event.postId());
+            // 이미지 변경은 색인 대상이 아님
+            case IMAGES_CHANGED -> {
+                return;
+            }
+        }
+        dirty = true;
+    }
+
+    @Scheduled(fixedDelayString = "${post.search.snapshot-interval-ms:60000}")
+    public void saveSnapshot() {
+        if (!dirty || !isPersistent() || !postSearchIndex.isReady()) {
+            return;
+        }
+        dirty = false;
+        try {
+            postSearchIndex.save(Path.of(indexPath));
+        } catch (IOException e) {
+            dirty = true;
+            log.error("검색 색인 스냅샷 저장 실패: {}", indexPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveSnapshot();
+    }
+
+    private void index(Post post) {
+        postSearchIndex.index(
+            post.getId(),
+            post.getCategory() != null ? post.getCategory().getId() : null,
+            post.getUpdatedAt(),
+            post.getTitle(),
+            post.getContent(),
+            post.getAuthor() != null ? post.getAuthor().getName() : null);
+    }
+
+    private boolean isPersistent() {
+        return StringUtils.hasText(indexPath);
+    }
+}
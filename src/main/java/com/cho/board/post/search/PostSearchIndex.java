@@ -0,0 +1,308 @@
+package com.cho.board.post.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 게시글 제목/본문/작성자 이름에 대한 인메모리 역색인
+// 검색어 토큰을 모두 포함하는 게시글을 TF-IDF 점수 순으로 돌려준다
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MAX_RESULTS = 1_000;
+
+    // 필드별 가중치
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private static final LocalDateTime NO_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (postId -> 가중 빈도), 접두어 검색을 위해 정렬 맵 사용
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, IndexedPost> posts = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public void index(
+        Long postId,
+        Long categoryId,
+        LocalDateTime updatedAt,
+        String title,
+        String content,
+        String authorName
+    ) {
+        Map<String, Integer> terms = new HashMap<>();
+        PostTokenizer.tokenize(title).forEach(t -> terms.merge(t, TITLE_WEIGHT, Integer::sum));
+        PostTokenizer.tokenize(authorName).forEach(t -> terms.merge(t, AUTHOR_WEIGHT, Integer::sum));
+        PostTokenizer.tokenize(content).forEach(t -> terms.merge(t, CONTENT_WEIGHT, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            IndexedPost existing = posts.get(postId);
+            // 더 최신 상태가 이미 색인되어 있으면 무시 (재색인과 실시간 반영이 겹치는 경우)
+            if (existing != null && existing.updatedAt() != null && updatedAt != null
+                && existing.updatedAt().isAfter(updatedAt)) {
+                return;
+            }
+            removeInternal(postId);
+            putInternal(postId, new IndexedPost(categoryId, updatedAt, terms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 존재하지 않는 게시글 제거 (재시작 시 스냅샷 이후 삭제분 정리)
+    public int retainAll(Collection<Long> existingIds) {
+        Set<Long> existing = existingIds instanceof Set<Long> set ? set : new HashSet<>(existingIds);
+
+        lock.writeLock().lock();
+        try {
+            List<Long> removed = posts.keySet().stream()
+                .filter(id -> !existing.contains(id))
+                .toList();
+            removed.forEach(this::removeInternal);
+            return removed.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 관련도 순 게시글 ID (categoryId 가 있으면 해당 카테고리만)
+    // ID 는 상위 MAX_RESULTS 개까지, total 은 제한 전 전체 일치 수
+    public SearchResult search(String query, Long categoryId) {
+        Set<String> queryTerms = new LinkedHashSet<>(PostTokenizer.tokenize(query));
+        if (queryTerms.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+
+            for (String term : queryTerms) {
+                Map<Long, Double> termScores = scoreTerm(term);
+
+                // 모든 검색어 토큰을 포함해야 함 (AND)
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return SearchResult.EMPTY;
+                }
+            }
+
+            List<Map.Entry<Long, Double>> matched = scores.entrySet().stream()
+                .filter(e -> categoryId == null
+                    || categoryId.equals(posts.get(e.getKey()).categoryId()))
+                .toList();
+
+            List<Long> ids = matched.stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+                .limit(MAX_RESULTS)
+                .map(Map.Entry::getKey)
+                .toList();
+            return new SearchResult(ids, matched.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String term) {
+        Map<Long, Double> termScores = new HashMap<>();
+
+        // 한글 2-gram 은 정확히 일치, 영문 단어와 한 글자 검색어는 접두어로 확장
+        Map<String, Map<Long, Integer>> matched = PostTokenizer.isHangulBigram(term)
+            ? (postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of())
+            : postings.subMap(term, true, term + Character.MAX_VALUE, false);
+
+        int totalPosts = posts.size();
+        matched.values().forEach(posting -> {
+            double idf = Math.log(1 + (double) totalPosts / posting.size());
+            posting.forEach((postId, tf) -> termScores.merge(postId, tf * idf, Double::sum));
+        });
+        return termScores;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 게시글 중 가장 최근 수정 시각 (증분 재색인 기준)
+    public LocalDateTime getWatermark() {
+        lock.readLock().lock();
+        try {
+            return posts.values().stream()
+                .map(IndexedPost::updatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(NO_WATERMARK);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========== 스냅샷 ==========
+
+    public void save(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+            new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(posts.size());
+            for (Map.Entry<Long, IndexedPost> entry : posts.entrySet()) {
+                IndexedPost post = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeLong(post.categoryId() != null ? post.categoryId() : -1L);
+                out.writeUTF(post.updatedAt() != null ? post.updatedAt().toString() : "");
+                out.writeInt(post.terms().size());
+                for (Map.Entry<String, Integer> term : post.terms().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 쓰다가 죽어도 이전 스냅샷이 남도록 임시 파일을 원자적으로 교체
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 스냅샷이 없거나 읽을 수 없으면 false (전체 재색인 필요)
+    public boolean load(Path path) {
+        if (!Files.exists(path)) {
+            return false;
+        }
+
+        Map<Long, IndexedPost> loaded = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("검색 색인 스냅샷 버전이 달라 전체 재색인합니다: {}", path);
+                return false;
+            }
+
+            int postCount = in.readInt();
+            for (int i = 0; i < postCount; i++) {
+                long postId = in.readLong();
+                long categoryId = in.readLong();
+                String updatedAt = in.readUTF();
+                int termCount = in.readInt();
+
+                Map<String, Integer> terms = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    terms.put(in.readUTF(), in.readInt());
+                }
+                loaded.put(postId, new IndexedPost(
+                    categoryId >= 0 ? categoryId : null,
+                    updatedAt.isEmpty() ? null : LocalDateTime.parse(updatedAt),
+                    terms));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 스냅샷을 읽지 못해 전체 재색인합니다: {}", path, e);
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            posts.clear();
+            postings.clear();
+            loaded.forEach(this::putInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    // ========== 내부 (쓰기 락 보유 상태에서 호출) ==========
+
+    private void putInternal(Long postId, IndexedPost post) {
+        posts.put(postId, post);
+        post.terms().forEach((term, tf) ->
+            postings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, tf));
+    }
+
+    private void removeInternal(Long postId) {
+        IndexedPost removed = posts.remove(postId);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.terms().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    public record SearchResult(List<Long> ids, int total) {
+
+        static final SearchResult EMPTY = new SearchResult(List.of(), 0);
+    }
+
+    private record IndexedPost(Long categoryId, LocalDateTime updatedAt,
+                               Map<String, Integer> terms) {
+
+    }
+}
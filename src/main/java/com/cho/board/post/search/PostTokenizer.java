@@ -0,0 +1,70 @@
+package com.cho.board.post.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색 색인용 토크나이저
+// 한글은 형태소 분석 없이 2-gram 으로, 영문/숫자는 단어 단위로 자른다
+public final class PostTokenizer {
+
+    private PostTokenizer() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = lower.charAt(i);
+            int start = i;
+
+            if (isHangul(c)) {
+                while (i < length && isHangul(lower.charAt(i))) {
+                    i++;
+                }
+                addBigrams(lower, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                while (i < length && isWordChar(lower.charAt(i))) {
+                    i++;
+                }
+                tokens.add(lower.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    // 한글 2-gram 토큰인지 (검색 시 접두어 확장 대상에서 제외)
+    public static boolean isHangulBigram(String token) {
+        return token.length() == 2 && isHangul(token.charAt(0)) && isHangul(token.charAt(1));
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        // 한 글자짜리 한글은 그대로 사용
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return !isHangul(c) && Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣')   // 완성형 음절
+            || (c >= 'ㄱ' && c <= 'ㆎ');  // 호환 자모
+    }
+}
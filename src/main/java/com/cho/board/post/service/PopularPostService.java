@@ -0,0 +1,234 @@
+package com.cho.board.post.service;
+
+import com.cho.board.comment.event.CommentCreatedEvent;
+import com.cho.board.global.constants.CacheNames;
+import com.cho.board.post.dtos.PostImageSummary;
+import com.cho.board.post.dtos.PostListResponse;
+import com.cho.board.post.dtos.PostListRow;
+import com.cho.board.post.event.PostChangedEvent;
+import com.cho.board.post.event.PostViewedEvent;
+import com.cho.board.post.repository.PostRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 인기 게시글 (시간 감쇠 점수 기반 Top-K)
+// 조회/댓글 이벤트로 점수를 누적하고, 주기적으로 전체/카테고리별 목록을 미리 만들어 캐시에 올려둔다
+// 점수는 forward decay 방식 : 기준 시각(landmark) 대비 가중치를 키워 더하므로 기존 점수를 매번 깎을 필요가 없다
+@Slf4j
+@Service
+public class PopularPostService {
+
+    static final String GLOBAL_KEY = "global";
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 5.0;
+
+    // 지수가 이 값을 넘으면 기준 시각을 현재로 옮겨 double 오버플로를 막는다
+    private static final double RESCALE_EXPONENT = 50.0;
+
+    // 현재 시점으로 환산한 점수가 이보다 낮으면 추적 대상에서 제거
+    private static final double MIN_SCORE = 0.05;
+
+    private final PostRepository postRepository;
+    private final Cache cache;
+    private final int topK;
+    private final double decayPerMilli;
+
+    private final AtomicReference<Generation> generation;
+
+    // 직전 갱신에서 캐시에 올린 키 (순위에서 빠진 카테고리 정리용)
+    private final Set<String> publishedKeys = ConcurrentHashMap.newKeySet();
+
+    public PopularPostService(
+        PostRepository postRepository,
+        CacheManager cacheManager,
+        @Value("${post.popular.top-k:10}") int topK,
+        @Value("${post.popular.half-life:6h}") Duration halfLife
+    ) {
+        this.postRepository = postRepository;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheNames.POPULAR_POSTS));
+        this.topK = topK;
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.generation = new AtomicReference<>(
+            new Generation(currentTimeMillis(), new ConcurrentHashMap<>()));
+    }
+
+    // ========== 점수 반영 ==========
+
+    @EventListener
+    public void onPostViewed(PostViewedEvent event) {
+        addScore(event.postId(), event.categoryId(), VIEW_WEIGHT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        addScore(event.postId(), event.categoryId(), COMMENT_WEIGHT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.type() == PostChangedEvent.Type.DELETED) {
+            generation.get().scores().remove(event.postId());
+        }
+    }
+
+    private void addScore(Long postId, Long categoryId, double weight) {
+        Generation gen = generation.get();
+        PostScore score = gen.scores().computeIfAbsent(postId, id -> new PostScore());
+        if (categoryId != null) {
+            score.categoryId = categoryId;
+        }
+        score.value.add(weight * Math.exp((currentTimeMillis() - gen.landmark()) * decayPerMilli));
+    }
+
+    // ========== 조회 ==========
+
+    // 미리 계산된 목록을 그대로 반환 (갱신 전이면 빈 목록)
+    @SuppressWarnings("unchecked")
+    public List<PostListResponse> getPopularPosts(Long categoryId) {
+        List<PostListResponse> posts = cache.get(cacheKey(categoryId), List.class);
+        return posts != null ? posts : List.of();
+    }
+
+    // ========== 주기 갱신 ==========
+
+    @Scheduled(
+        fixedDelayString = "${post.popular.refresh-interval-ms:60000}",
+        initialDelayString = "${post.popular.refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        long now = currentTimeMillis();
+        Generation gen = rescaleIfNeeded(now);
+        double toCurrent = Math.exp(-(now - gen.landmark()) * decayPerMilli);
+
+        // 감쇠로 충분히 식은 게시글은 정리해 추적 대상이 무한히 늘지 않게 한다
+        gen.scores().entrySet().removeIf(e -> e.getValue().value.sum() * toCurrent < MIN_SCORE);
+
+        List<RankedPost> ranked = gen.scores().entrySet().stream()
+            .map(e -> new RankedPost(e.getKey(), e.getValue().categoryId, e.getValue().value.sum()))
+            .sorted(Comparator.comparingDouble(RankedPost::score).reversed()
+                .thenComparing(RankedPost::postId, Comparator.reverseOrder()))
+            .toList();
+
+        List<Long> global = ranked.stream().limit(topK).map(RankedPost::postId).toList();
+        Map<Long, List<Long>> byCategory = new HashMap<>();
+        for (RankedPost post : ranked) {
+            if (post.categoryId() == null) {
+                continue;
+            }
+            List<Long> ids = byCategory.computeIfAbsent(post.categoryId(), c -> new ArrayList<>());
+            if (ids.size() < topK) {
+                ids.add(post.postId());
+            }
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(global);
+        byCategory.values().forEach(ids::addAll);
+        Map<Long, PostListResponse> responses = hydrate(ids);
+
+        // 삭제 등으로 조회되지 않는 게시글은 추적 대상에서도 제거
+        ids.stream()
+            .filter(id -> !responses.containsKey(id))
+            .forEach(id -> gen.scores().remove(id));
+
+        Set<String> keys = new HashSet<>();
+        keys.add(publish(GLOBAL_KEY, global, responses));
+        byCategory.forEach((categoryId, postIds) ->
+            keys.add(publish(cacheKey(categoryId), postIds, responses)));
+
+        publishedKeys.stream()
+            .filter(key -> !keys.contains(key))
+            .forEach(cache::evict);
+        publishedKeys.retainAll(keys);
+        publishedKeys.addAll(keys);
+
+        log.debug("인기 게시글 갱신 완료 - 추적 게시글 수: {}, 카테고리 수: {}",
+            gen.scores().size(), byCategory.size());
+    }
+
+    private Map<Long, PostListResponse> hydrate(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, PostImageSummary> images = postRepository.findImageSummaries(ids);
+        return postRepository.findPostListRowsByIds(ids).stream()
+            .collect(Collectors.toMap(
+                PostListRow::getId,
+                row -> PostListResponse.from(row, images.get(row.getId())),
+                (a, b) -> a));
+    }
+
+    private String publish(String key, List<Long> rankedIds, Map<Long, PostListResponse> responses) {
+        cache.put(key, rankedIds.stream()
+            .map(responses::get)
+            .filter(Objects::nonNull)
+            .toList());
+        return key;
+    }
+
+    // 기준 시각을 현재로 옮긴 새 세대로 교체
+    // 교체 직전에 옛 세대에 더해진 극소수 이벤트는 유실될 수 있지만 순위 용도로는 무시할 수준
+    private Generation rescaleIfNeeded(long now) {
+        Generation gen = generation.get();
+        if ((now - gen.landmark()) * decayPerMilli < RESCALE_EXPONENT) {
+            return gen;
+        }
+
+        double factor = Math.exp(-(now - gen.landmark()) * decayPerMilli);
+        Map<Long, PostScore> rescaled = gen.scores().entrySet().stream()
+            .collect(Collectors.toConcurrentMap(Map.Entry::getKey, e -> {
+                PostScore score = new PostScore();
+                score.categoryId = e.getValue().categoryId;
+                score.value.add(e.getValue().value.sum() * factor);
+                return score;
+            }));
+
+        Generation next = new Generation(now, new ConcurrentHashMap<>(rescaled));
+        generation.set(next);
+        return next;
+    }
+
+    private static String cacheKey(Long categoryId) {
+        return categoryId == null ? GLOBAL_KEY : "category:" + categoryId;
+    }
+
+    private static long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private record Generation(long landmark, Map<Long, PostScore> scores) {
+
+    }
+
+    private record RankedPost(Long postId, Long categoryId, double score) {
+
+    }
+
+    private static final class PostScore {
+
+        private final DoubleAdder value = new DoubleAdder();
+        private volatile Long categoryId;
+    }
+}
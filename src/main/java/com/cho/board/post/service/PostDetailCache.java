@@ -0,0 +1,51 @@
+package com.cho.board.post.service;
+
+import com.cho.board.global.constants.CacheNames;
+import com.cho.board.post.dtos.PostDetailResponse;
+import com.cho.board.post.event.PostChangedEvent;
+import com.cho.board.post.event.PostViewCountsFlushedEvent;
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시글 상세 응답 캐시
+// 게시글/이미지 변경과 조회수 반영이 커밋된 뒤에 해당 게시글 항목을 제거한다
+@Component
+public class PostDetailCache {
+
+    private final Cache cache;
+
+    public PostDetailCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheNames.POST_DETAIL);
+    }
+
+    // 같은 게시글을 동시에 조회해도 DB 로딩은 한 번만 수행
+    public PostDetailResponse get(Long postId, Supplier<PostDetailResponse> loader) {
+        try {
+            return cache.get(postId, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Long postId) {
+        cache.evict(postId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(event.postId());
+    }
+
+    // 캐시된 조회수는 반영 시점의 값이므로 반영 후에는 다시 읽도록 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onViewCountsFlushed(PostViewCountsFlushedEvent event) {
+        event.postIds().forEach(this::evict);
+    }
+}
@@ -2,24 +2,41 @@ package com.cho.board.post.service;
 
 import com.cho.board.category.entity.Category;
 import com.cho.board.category.repository.CategoryRepository;
+import com.cho.board.file.service.FileService;
 import com.cho.board.global.exception.AccessDeniedException;
 import com.cho.board.global.exception.ErrorCode;
 import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.constants.PageConstants;
+import com.cho.board.global.response.CursorSliceResponse;
 import com.cho.board.post.dtos.PostCreateRequest;
+import com.cho.board.post.dtos.PostCursor;
 import com.cho.board.post.dtos.PostDetailResponse;
+import com.cho.board.post.dtos.PostImageSummary;
 import com.cho.board.post.dtos.PostListResponse;
+import com.cho.board.post.dtos.PostListRow;
 import com.cho.board.post.dtos.PostSearchCondition;
 import com.cho.board.post.dtos.PostUpdateRequest;
 import com.cho.board.post.entity.Post;
+import com.cho.board.post.event.PostChangedEvent;
+import com.cho.board.post.event.PostViewedEvent;
 import com.cho.board.post.repository.PostRepository;
+import com.cho.board.post.search.PostSearchIndex;
+import com.cho.board.post.search.PostSearchIndex.SearchResult;
 import com.cho.board.user.entity.User;
 import com.cho.board.user.repository.UserRepository;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @Transactional
@@ -29,6 +46,11 @@ public class PostService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final ViewCountAggregator viewCountAggregator;
+    private final PostDetailCache postDetailCache;
+    private final PostSearchIndex postSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FileService fileService;
 
     public PostDetailResponse create(String email, PostCreateRequest request) {
         User author = userRepository.findByEmail(email)
@@ -45,6 +67,8 @@ public class PostService {
             .build();
 
         Post savedPost = postRepository.save(post);
+        fileService.attachPostImages(savedPost, request.getImageFilenames());
+        eventPublisher.publishEvent(PostChangedEvent.created(savedPost.getId()));
         return PostDetailResponse.from(savedPost);
     }
 
@@ -53,6 +77,15 @@ public class PostService {
         return postRepository.findAll(pageable);
     }
 
+    // 목록 조회 : 프로젝션 + 이미지 요약 일괄 조회 (페이지 크기와 무관하게 고정 쿼리 수)
+    @Transactional(readOnly = true)
+    public Page<PostListResponse> getPostList(Pageable pageable) {
+        Page<PostListRow> rows = postRepository.findPostListRows(pageable);
+        Map<Long, PostImageSummary> images = postRepository.findImageSummaries(
+            rows.map(PostListRow::getId).getContent());
+        return rows.map(row -> PostListResponse.from(row, images.get(row.getId())));
+    }
+
     @Transactional(readOnly = true)
     public Post findById(Long id) {
         return postRepository.findById(id)
@@ -61,14 +94,25 @@ public class PostService {
     }
 
     // 상세 조회 (조회수 증가 로직 포함)
-    public Post findByIdWithViewCount(Long id) {
-        Post post = postRepository.findById(id)
+    // 조회수는 집계기에 누적하고 주기적으로 일괄 반영하므로 조회 트랜잭션은 읽기 전용
+    @Transactional(readOnly = true)
+    public PostDetailResponse findByIdWithViewCount(Long id) {
+        PostDetailResponse detail = postDetailCache.get(id, () -> loadDetail(id));
+        viewCountAggregator.increment(id);
+        eventPublisher.publishEvent(new PostViewedEvent(id, detail.getCategoryId()));
+
+        return detail.toBuilder()
+            .viewCount(detail.getViewCount() + viewCountAggregator.getPending(id))
+            .build();
+    }
+
+    // 캐시 미스 시 상세 응답 생성 (조회수는 DB 에 반영된 값)
+    private PostDetailResponse loadDetail(Long id) {
+        Post post = postRepository.findWithUserAndCategoryById(id)
             .orElseThrow(
                 () -> new ResourceNotFoundException(ErrorCode.POST_NOT_FOUND,
                     "게시글을 찾을 수 없습니다. ID : " + id));
-        post.increaseViewCount();
-
-        return post;
+        return PostDetailResponse.from(post);
     }
 
     public PostDetailResponse update(Long postId, PostUpdateRequest request, String email) {
@@ -86,6 +130,9 @@ public class PostService {
         }
 
         post.update(request.getTitle(), request.getContent(), category);
+        // 이미 연결된 이미지는 건너뛰고 새로 올린 것만 연결
+        fileService.attachPostImages(post, request.getImageFilenames());
+        eventPublisher.publishEvent(PostChangedEvent.updated(postId));
 
         return PostDetailResponse.from(post);
     }
@@ -98,19 +145,58 @@ public class PostService {
             throw new AccessDeniedException(ErrorCode.POST_ACCESS_DENIED);
         }
 
+        // 게시글과 함께 삭제되는 이미지의 파일 참조 해제
+        post.getImages().forEach(image -> fileService.release(image.getFilePath()));
+
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(postId));
     }
 
+    @Transactional(readOnly = true)
     public void increaseViewCount(Long postId) {
-        Post post = findById(postId);
-        post.increaseViewCount();
+        findById(postId);
+        viewCountAggregator.increment(postId);
     }
 
     // 검색 메서드
+    // keyword 가 있으면 검색 색인으로 관련도 순 조회, 색인이 준비되기 전에는 LIKE 검색으로 대체
     @Transactional(readOnly = true)
     public Page<PostListResponse> searchPosts(PostSearchCondition condition, Pageable pageable) {
+        String keyword = condition.getKeyword();
+        if (StringUtils.hasText(keyword)) {
+            return postSearchIndex.isReady()
+                ? searchByIndex(keyword, condition.getCategoryId(), pageable)
+                : searchPostsWithFilters(keyword, condition.getCategoryId(), pageable);
+        }
+
         Page<Post> posts = postRepository.searchPosts(condition, pageable);
-        return posts.map(PostListResponse::from);
+        return toListResponses(posts);
+    }
+
+    private Page<PostListResponse> searchByIndex(String keyword, Long categoryId,
+        Pageable pageable) {
+        // 총 개수는 전체 일치 수, 페이지는 관련도 상위 결과 안에서만 (그 뒤 페이지는 빈 목록)
+        SearchResult result = postSearchIndex.search(keyword, categoryId);
+        List<Long> rankedIds = result.ids();
+
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.total());
+        }
+
+        // 현재 페이지 게시글만 한 번에 조회한 뒤 관련도 순서로 재배열
+        Map<Long, Post> posts = postRepository.findAllWithAuthorAndCategoryByIdIn(pageIds)
+            .stream()
+            .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<PostListResponse> content = toListResponses(pageIds.stream()
+            .map(posts::get)
+            .filter(Objects::nonNull)
+            .toList());
+
+        return new PageImpl<>(content, pageable, result.total());
     }
 
     @Transactional(readOnly = true)
@@ -120,29 +206,64 @@ public class PostService {
         Pageable pageable
     ) {
         Page<Post> posts = postRepository.searchPostsWithFilters(keyword, categoryId, pageable);
-        return posts.map(PostListResponse::from);
+        return toListResponses(posts);
     }
 
+    // 커서 기반 페이징 (깊은 페이지에서도 offset 스캔 없이 일정한 비용)
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<PostListResponse> searchPostsByCursor(
+        String keyword,
+        Long categoryId,
+        String sort,
+        String cursor,
+        int size
+    ) {
+        PostCursor.SortKey sortKey = PostCursor.SortKey.from(sort);
+        PostCursor after = (cursor == null || cursor.isBlank())
+            ? null
+            : PostCursor.decode(cursor, sortKey);
+        int pageSize = Math.min(Math.max(size, 1), PageConstants.MAX_PAGE_SIZE);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<Post> posts = postRepository.searchPostsByCursor(
+            keyword, categoryId, sortKey, after, pageSize + 1);
+
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> content = hasNext ? posts.subList(0, pageSize) : posts;
+        String nextCursor = hasNext
+            ? PostCursor.of(sortKey, content.get(content.size() - 1)).encode()
+            : null;
+
+        return CursorSliceResponse.of(toListResponses(content), pageSize, nextCursor);
+    }
+
+    // 이미지 요약을 페이지 단위로 한 번에 조회해 images 컬렉션 지연 로딩을 피함
+    private List<PostListResponse> toListResponses(List<Post> posts) {
+        Map<Long, PostImageSummary> images = postRepository.findImageSummaries(
+            posts.stream().map(Post::getId).toList());
+        return posts.stream()
+            .map(post -> PostListResponse.from(post, images.get(post.getId())))
+            .toList();
+    }
+
+    private Page<PostListResponse> toListResponses(Page<Post> posts) {
+        Map<Long, PostImageSummary> images = postRepository.findImageSummaries(
+            posts.map(Post::getId).getContent());
+        return posts.map(post -> PostListResponse.from(post, images.get(post.getId())));
+    }
 
     // EntityGraph 사용
     public Page<PostListResponse> getPostsOptimized(Pageable pageable) {
-        return postRepository.findAllWithUserAndCategory(pageable)
-            .map(PostListResponse::from);
+        return toListResponses(postRepository.findAllWithUserAndCategory(pageable));
     }
 
     public PostDetailResponse getPostByIdOptimized(Long id) {
-        Post post = postRepository.findWithUserAndCategoryById(id)
-            .orElseThrow(
-                () -> new ResourceNotFoundException(ErrorCode.POST_NOT_FOUND, "게시글을 찾을 수 없습니다."));
-        return PostDetailResponse.from(post);
+        return postDetailCache.get(id, () -> loadDetail(id));
     }
 
     // Fetch Join 사용
     public List<PostListResponse> getPostsWithFetchJoin() {
-        return postRepository.findAllWithFetchJoin()
-            .stream()
-            .map(PostListResponse::from)
-            .toList();
+        return toListResponses(postRepository.findAllWithFetchJoin());
     }
 
     public PostDetailResponse getPostByIdWithFetchJoin(Long id) {
@@ -0,0 +1,95 @@
+package com.cho.board.post.service;
+
+import com.cho.board.post.event.PostViewCountsFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 조회수 write-behind 집계기
+// 조회 요청마다 posts 행을 UPDATE 하지 않고 메모리에 누적한 뒤 주기적으로 한 번에 반영한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountAggregator {
+
+    private static final String FLUSH_SQL =
+        "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 게시글별 미반영 조회수 (LongAdder 로 핫 게시글의 경합 분산)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long getPending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${post.view-count.flush-interval-ms:5000}",
+        initialDelayString = "${post.view-count.flush-interval-ms:5000}")
+    @Transactional
+    public int flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, postId});
+            } else if (pending.remove(postId, adder)) {
+                // 한 주기 동안 조회가 없던 항목은 제거해 맵이 무한히 커지지 않게 한다
+                // 제거 직후 들어온 증가분은 다시 합산해 보존
+                long residue = adder.sumThenReset();
+                if (residue > 0) {
+                    pending.computeIfAbsent(postId, id -> new LongAdder()).add(residue);
+                }
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 누적분을 되돌려 다음 주기에 재시도
+            batchArgs.forEach(args -> pending
+                .computeIfAbsent((Long) args[1], id -> new LongAdder())
+                .add((Long) args[0]));
+            log.error("조회수 반영 실패 - 다음 주기에 재시도합니다. 대상 게시글 수: {}", batchArgs.size(), e);
+            throw e;
+        }
+
+        eventPublisher.publishEvent(new PostViewCountsFlushedEvent(
+            batchArgs.stream().map(args -> (Long) args[1]).toList()));
+        log.debug("조회수 반영 완료 - 게시글 수: {}", batchArgs.size());
+        return batchArgs.size();
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("종료 시 조회수 반영 실패", e);
+        }
+    }
+}
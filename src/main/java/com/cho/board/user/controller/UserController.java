@@ -2,6 +2,7 @@ package com.cho.board.user.controller;
 
 import com.cho.board.global.response.ApiResponse;
 import com.cho.board.user.dtos.PasswordChangeRequest;
+import com.cho.board.user.dtos.RoleChangeRequest;
 import com.cho.board.user.dtos.UserDetailResponse;
 import com.cho.board.user.dtos.UserListResponse;
 import com.cho.board.user.dtos.UserUpdateRequest;
@@ -9,6 +10,7 @@ import com.cho.board.user.entity.User;
 import com.cho.board.user.service.UserService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,6 +18,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -44,6 +47,19 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(users, "전체 사용자 목록 조회 성공"));
     }
 
+    // 권한 변경 : 변경 전에 발급된 Access Token 은 더 이상 인증되지 않으므로 대상 사용자는 토큰 갱신 후 새 권한 적용
+    @PutMapping("/{userId}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<UserDetailResponse>> changeRole(
+        @PathVariable Long userId,
+        @Valid @RequestBody RoleChangeRequest request
+    ) {
+        User user = userService.changeRole(userId, request.getRole());
+
+        return ResponseEntity.ok(ApiResponse.success(UserDetailResponse.from(user),
+            "권한이 변경되었습니다."));
+    }
+
     // ========== 인증된 사용자 본인 API (/me) ==========
 
     @GetMapping("/me")
@@ -85,14 +101,17 @@ public class UserController {
 
     @PutMapping("/me/password")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<Void>> changePassword(
+    public CompletableFuture<ResponseEntity<ApiResponse<Void>>> changePassword(
         @AuthenticationPrincipal UserDetails userDetails,
         @Valid @RequestBody PasswordChangeRequest request
     ) {
         String email = userDetails.getUsername();
-        userService.changePassword(email, request.getCurrentPassword(), request.getNewPassword());
 
-        return ResponseEntity.ok(ApiResponse.success(null, "비밀번호가 변경되었습니다."));
+        // 해시가 끝나면 응답 (기다리는 동안 요청 스레드 반환)
+        return userService.changePassword(email, request.getCurrentPassword(),
+                request.getNewPassword())
+            .thenApply(ignored -> ResponseEntity.ok(
+                ApiResponse.success(null, "비밀번호가 변경되었습니다.")));
     }
 
     @DeleteMapping("/me")
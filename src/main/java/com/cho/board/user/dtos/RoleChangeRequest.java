@@ -0,0 +1,16 @@
+package com.cho.board.user.dtos;
+
+import com.cho.board.user.entity.Role;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleChangeRequest {
+
+    @NotNull(message = "권한은 필수입니다.")
+    private Role role;
+}
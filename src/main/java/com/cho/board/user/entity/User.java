@@ -10,6 +10,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
@@ -22,7 +23,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = {
+        // 파일 정리 작업의 참조 확인용
+        @Index(name = "idx_users_profile_image", columnList = "profile_image")
+    })
 @Getter
 @Builder
 @AllArgsConstructor
@@ -82,6 +88,12 @@ public class User extends BaseEntity {
         this.password = encodedPassword;
     }
 
+    public void changeRole(Role role) {
+        if (role != null) {
+            this.role = role;
+        }
+    }
+
     private static boolean isValidRawPassword(String rawPassword) {
         String pattern = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$";
         return rawPassword.matches(pattern);
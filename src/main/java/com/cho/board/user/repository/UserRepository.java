@@ -1,8 +1,14 @@
 package com.cho.board.user.repository;
 
 import com.cho.board.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -11,4 +17,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 주어진 파일명 중 프로필 이미지로 참조되는 것
+    @Query("SELECT u.profileImage FROM User u WHERE u.profileImage IN :filenames")
+    List<String> findReferencedProfileImages(@Param("filenames") Collection<String> filenames);
+
+    // 비밀번호가 확인한 값(해시) 그대로일 때만 변경 - 0 이면 그 사이 다른 요청이 바꿈
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :encodedPassword, u.updatedAt = :now "
+        + "WHERE u.id = :id AND u.password = :verifiedPassword")
+    int changePasswordIfUnchanged(
+        @Param("id") Long id,
+        @Param("verifiedPassword") String verifiedPassword,
+        @Param("encodedPassword") String encodedPassword,
+        @Param("now") LocalDateTime now);
 }
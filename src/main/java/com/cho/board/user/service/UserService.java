@@ -1,31 +1,63 @@
 package com.cho.board.user.service;
 
+import com.cho.board.auth.service.RefreshTokenService;
 import com.cho.board.file.service.FileService;
+import com.cho.board.global.config.AsyncConfig;
 import com.cho.board.global.exception.BusinessException;
 import com.cho.board.global.exception.DuplicateResourceException;
 import com.cho.board.global.exception.ErrorCode;
 import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.security.PasswordHashingService;
+import com.cho.board.global.security.UserPrincipalCache;
 import com.cho.board.user.dtos.UserCreateRequest;
 import com.cho.board.user.dtos.UserUpdateRequest;
 import com.cho.board.user.entity.Role;
 import com.cho.board.user.entity.User;
 import com.cho.board.user.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final FileService fileService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
+    // 해시 계산이 끝난 뒤 DB 반영용 (해시 전용 스레드가 커넥션/잠금을 기다리지 않도록)
+    private final Executor ioExecutor;
+
+    public UserService(
+        UserRepository userRepository,
+        PasswordHashingService passwordHashingService,
+        FileService fileService,
+        UserPrincipalCache userPrincipalCache,
+        RefreshTokenService refreshTokenService,
+        TransactionTemplate transactionTemplate,
+        @Qualifier(AsyncConfig.FILE_IO_EXECUTOR) Executor ioExecutor
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.fileService = fileService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.refreshTokenService = refreshTokenService;
+        this.transactionTemplate = transactionTemplate;
+        this.ioExecutor = ioExecutor;
+    }
 
+    // 해시는 트랜잭션 밖에서 계산하고 저장만 짧은 트랜잭션으로 처리 (BCrypt 를 기다리는 동안 DB 커넥션을 붙잡지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User create(UserCreateRequest request) {
 
         // 존재하는 email & nickname 인지 확인
@@ -37,7 +69,7 @@ public class UserService {
             throw new DuplicateResourceException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         User user = User.builder()
             .name(request.getName())
@@ -47,7 +79,10 @@ public class UserService {
             .profileImage(request.getProfileImage())
             .role(Role.USER)
             .build();
-        return userRepository.save(user);
+        return transactionTemplate.execute(status -> {
+            fileService.acquire(request.getProfileImage());
+            return userRepository.save(user);
+        });
     }
 
     @Transactional(readOnly = true)
@@ -63,7 +98,27 @@ public class UserService {
                     "사용자를 찾을 수 없습니다. ID: " + userId));
     }
 
+    // 새 비밀번호 비교/해시는 트랜잭션 밖에서 먼저 하고, 수정 내용 반영만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User update(Long userId, UserUpdateRequest request) {
+        String encodedPassword = hashNewPassword(userId, request.getPassword());
+        return transactionTemplate.execute(
+            status -> applyUpdate(userId, request, encodedPassword));
+    }
+
+    // 현재 비밀번호를 받지 않으므로 같은 비밀번호인지는 해시 비교로만 알 수 있음 (비교 1회 + 해시 1회)
+    private String hashNewPassword(Long userId, String password) {
+        if (password == null || password.isBlank()) {
+            return null;
+        }
+        User user = findById(userId);
+        if (passwordHashingService.matches(password, user.getPassword())) {
+            throw new BusinessException(ErrorCode.SAME_PASSWORD);
+        }
+        return passwordHashingService.encode(password);
+    }
+
+    private User applyUpdate(Long userId, UserUpdateRequest request, String encodedPassword) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND,
                 "사용자를 찾을 수 없습니다. ID: " + userId));
@@ -77,33 +132,38 @@ public class UserService {
             user.updateNickname(request.getNickname());
         }
 
-        // Password
-        if (request.getPassword() != null && !request.getPassword().isBlank()) {
-            if (passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                throw new BusinessException(ErrorCode.SAME_PASSWORD);
-            }
-
-            String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // Password (해시는 hashNewPassword 에서 미리 계산)
+        if (encodedPassword != null) {
             user.changePassword(encodedPassword);
+            invalidateCredentials(user.getId());
         }
 
         return user;
     }
 
     // ProfileImage
+    // 이미지 저장(저장소 업로드)은 트랜잭션 밖에서, 사용자 변경만 짧은 트랜잭션으로
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User updateProfileImage(Long userId, MultipartFile file) {
-        User user = findById(userId);
-
-        // 기존 프로필 이미지 삭제
-        if (user.getProfileImage() != null) {
-            fileService.deleteFile(user.getProfileImage(), true);
-        }
+        findById(userId);
 
-        // 새 이미지 저장
+        // 새 이미지 저장 (같은 내용이면 기존 파일을 그대로 참조)
         String filename = fileService.uploadProfileImage(file);
-        user.updateProfileImage(filename);
-
-        return user;
+        try {
+            return transactionTemplate.execute(status -> {
+                User user = findById(userId);
+                String previous = user.getProfileImage();
+                user.updateProfileImage(filename);
+
+                // 기존 프로필 이미지 참조 해제 (다른 곳에서 참조하지 않으면 삭제)
+                fileService.release(previous);
+                return user;
+            });
+        } catch (RuntimeException e) {
+            // 변경이 롤백되면 새 이미지 참조도 되돌림
+            fileService.release(filename);
+            throw e;
+        }
     }
 
     public void delete(Long userId) {
@@ -112,6 +172,8 @@ public class UserService {
                 ErrorCode.USER_NOT_FOUND)
             );
         userRepository.delete(user);
+        fileService.release(user.getProfileImage());
+        invalidateCredentials(user.getId());
     }
 
     // Email 기반 메서드들 (JWT 인증용)
@@ -122,35 +184,72 @@ public class UserService {
                 "사용자를 찾을 수 없습니다. Email: " + email));
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User updateByEmail(String email, UserUpdateRequest request) {
         User user = findByEmail(email);
         return update(user.getId(), request);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User updateProfileImageByEmail(String email, MultipartFile file) {
         User user = findByEmail(email);
         return updateProfileImage(user.getId(), file);
     }
 
-    public void changePassword(String email, String currentPassword, String newPassword) {
+    // 비밀번호 확인(비교 1회)과 새 비밀번호 해시(1회)는 해시 전용 스레드에서 이어서 실행하고
+    // 트랜잭션은 마지막 저장에만 사용 (BCrypt 를 기다리는 동안 요청 스레드와 DB 커넥션을 붙잡지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> changePassword(String email, String currentPassword,
+        String newPassword) {
         User user = findByEmail(email);
+        String verifiedPassword = user.getPassword();
+
+        return passwordHashingService.matchesAsync(currentPassword, verifiedPassword)
+            .thenCompose(matched -> {
+                // 현재 비밀번호 확인
+                if (!matched) {
+                    throw new BusinessException(ErrorCode.INCORRECT_PASSWORD);
+                }
+                // 현재 비밀번호가 맞으므로 새 비밀번호가 같은지는 문자열 비교로 충분
+                if (newPassword.equals(currentPassword)) {
+                    throw new BusinessException(ErrorCode.SAME_PASSWORD);
+                }
+                return passwordHashingService.encodeAsync(newPassword);
+            })
+            .thenAcceptAsync(encodedPassword -> transactionTemplate.executeWithoutResult(
+                status -> applyPassword(user.getId(), verifiedPassword, encodedPassword)),
+                ioExecutor);
+    }
 
-        // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+    private void applyPassword(Long userId, String verifiedPassword, String encodedPassword) {
+        // 확인한 비밀번호가 그대로일 때만 변경 (조건부 UPDATE 라 동시에 바꾸는 요청 중 하나만 성공)
+        // 확인하는 사이 다른 요청이 비밀번호를 바꿨다면 확인한 비밀번호는 더 이상 현재 비밀번호가 아님
+        int updated = userRepository.changePasswordIfUnchanged(userId, verifiedPassword,
+            encodedPassword, LocalDateTime.now());
+        if (updated == 0) {
             throw new BusinessException(ErrorCode.INCORRECT_PASSWORD);
         }
-
-        // 새 비밀번호가 현재 비밀번호와 같은지 확인
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
-            throw new BusinessException(ErrorCode.SAME_PASSWORD);
-        }
-
-        String encodedPassword = passwordEncoder.encode(newPassword);
-        user.changePassword(encodedPassword);
+        invalidateCredentials(userId);
     }
 
     public void deleteByEmail(String email) {
         User user = findByEmail(email);
         userRepository.delete(user);
+        fileService.release(user.getProfileImage());
+        invalidateCredentials(user.getId());
+    }
+
+    // 권한 변경
+    public User changeRole(Long userId, Role role) {
+        User user = findById(userId);
+        user.changeRole(role);
+        userPrincipalCache.invalidate(user.getId());
+        return user;
+    }
+
+    // 비밀번호 변경 / 탈퇴 : 이전에 발급된 Access Token 과 모든 로그인 세션(Refresh Token) 무효화
+    private void invalidateCredentials(Long userId) {
+        userPrincipalCache.invalidate(userId);
+        refreshTokenService.revokeAllForUser(userId);
     }
 }
@@ -288,6 +288,36 @@ class AuthControllerTest {
             .andExpect(status().isBadRequest());
     }
 
+    // ========== 로그아웃 테스트 ==========
+
+    @Test
+    @DisplayName("로그아웃 성공")
+    void logout_Success() throws Exception {
+        // given
+        willDoNothing().given(authService).logout(anyString());
+
+        // when & then
+        mockMvc.perform(post("/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"eyJhbGciOiJIUzI1NiJ9.refreshToken\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.message").value("로그아웃되었습니다."));
+    }
+
+    @Test
+    @DisplayName("로그아웃 실패 - 유효하지 않은 토큰")
+    void logout_Fail_InvalidToken() throws Exception {
+        // given
+        willThrow(new CustomJwtException("유효하지 않은 Refresh Token 입니다."))
+            .given(authService).logout(anyString());
+
+        // when & then
+        mockMvc.perform(post("/auth/logout")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"invalid-token\"}"))
+            .andExpect(status().isUnauthorized());
+    }
+
     // ========== 이메일 인증 테스트 ==========
 
     @Test
@@ -0,0 +1,213 @@
+package com.cho.board.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.cho.board.auth.dtos.TokenResponse;
+import com.cho.board.auth.entity.RefreshToken;
+import com.cho.board.auth.repository.RefreshTokenRepository;
+import com.cho.board.global.config.JwtProperties;
+import com.cho.board.global.exception.CustomJwtException;
+import com.cho.board.global.security.RevokedSessionRegistry;
+import com.cho.board.global.util.JwtUtil;
+import com.cho.board.user.entity.Role;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService 단위 테스트")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JwtUtil jwtUtil;
+    private RevokedSessionRegistry revokedSessionRegistry;
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-for-refresh-token-unit-test-0123456789");
+        properties.setAccessTokenValidity(60_000L);
+        properties.setRefreshTokenValidity(120_000L);
+        properties.setRefreshTokenPurgeBatchSize(2);
+
+        jwtUtil = new JwtUtil(properties);
+        revokedSessionRegistry = new RevokedSessionRegistry(properties);
+        refreshTokenService = new RefreshTokenService(
+            refreshTokenRepository,
+            userRepository,
+            jwtUtil,
+            properties,
+            revokedSessionRegistry,
+            new TransactionTemplate(transactionManager));
+
+        user = User.builder()
+            .name("홍길동")
+            .nickname("테스트유저")
+            .email("test@example.com")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    @Test
+    @DisplayName("발급한 Refresh Token 은 원문 대신 해시로 저장되고 Access Token 과 세션 ID 를 공유한다")
+    void issue_StoresHashedToken() {
+        // when
+        TokenResponse response = refreshTokenService.issue(1L, "test@example.com", Role.USER);
+
+        // then
+        RefreshToken saved = captureSaved();
+        assertThat(saved.getTokenHash()).isEqualTo(JwtUtil.hash(response.getRefreshToken()));
+        assertThat(saved.getTokenHash()).isNotEqualTo(response.getRefreshToken());
+        assertThat(saved.getId()).isEqualTo(jwtUtil.parseClaims(response.getRefreshToken()).getId());
+        assertThat(sessionOf(response.getAccessToken())).isEqualTo(saved.getSessionId());
+    }
+
+    @Test
+    @DisplayName("갱신하면 기존 토큰은 사용 처리되고 같은 세션으로 새 토큰이 발급된다")
+    void rotate_Success() {
+        // given
+        TokenResponse issued = refreshTokenService.issue(1L, "test@example.com", Role.USER);
+        RefreshToken stored = captureSaved();
+        given(refreshTokenRepository.findByIdForUpdate(stored.getId()))
+            .willReturn(Optional.of(stored));
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        TokenResponse rotated = refreshTokenService.rotate(issued.getRefreshToken());
+
+        // then
+        assertThat(stored.isUsed()).isTrue();
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+        assertThat(sessionOf(rotated.getRefreshToken())).isEqualTo(stored.getSessionId());
+        then(refreshTokenRepository).should(times(2)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰을 다시 쓰면 세션 전체를 폐기한다")
+    void rotate_Reused_RevokesSession() {
+        // given
+        TokenResponse issued = refreshTokenService.issue(1L, "test@example.com", Role.USER);
+        RefreshToken stored = captureSaved();
+        stored.markUsed();
+        given(refreshTokenRepository.findByIdForUpdate(stored.getId()))
+            .willReturn(Optional.of(stored));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued.getRefreshToken()))
+            .isInstanceOf(CustomJwtException.class);
+
+        then(refreshTokenRepository).should().revokeSession(eq(stored.getSessionId()), any());
+        assertThat(revokedSessionRegistry.isRevoked(stored.getSessionId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기된 세션의 토큰은 DB 를 조회하지 않고 거절한다")
+    void rotate_RevokedSession_SkipsDatabase() {
+        // given
+        TokenResponse issued = refreshTokenService.issue(1L, "test@example.com", Role.USER);
+        revokedSessionRegistry.revoke(sessionOf(issued.getRefreshToken()));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued.getRefreshToken()))
+            .isInstanceOf(CustomJwtException.class);
+
+        then(refreshTokenRepository).should(never()).findByIdForUpdate(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 세션이 폐기된다")
+    void revoke_Success() {
+        // given
+        TokenResponse issued = refreshTokenService.issue(1L, "test@example.com", Role.USER);
+        String sessionId = sessionOf(issued.getRefreshToken());
+
+        // when
+        refreshTokenService.revoke(issued.getRefreshToken());
+
+        // then
+        then(refreshTokenRepository).should().revokeSession(eq(sessionId), any());
+        assertThat(revokedSessionRegistry.isRevoked(sessionId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("비밀번호를 바꾸면 그 사용자의 기존 Refresh Token 으로 갱신할 수 없다")
+    void revokeAllForUser_RejectsOldRefreshToken() {
+        // given
+        TokenResponse issued = refreshTokenService.issue(1L, "test@example.com", Role.USER);
+        String sessionId = sessionOf(issued.getRefreshToken());
+        given(refreshTokenRepository.findActiveSessionIds(eq(1L), any()))
+            .willReturn(List.of(sessionId));
+
+        // when
+        refreshTokenService.revokeAllForUser(1L);
+
+        // then
+        then(refreshTokenRepository).should().revokeAllForUser(eq(1L), any());
+        assertThat(revokedSessionRegistry.isRevoked(sessionId)).isTrue();
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued.getRefreshToken()))
+            .isInstanceOf(CustomJwtException.class);
+        then(refreshTokenRepository).should(never()).findByIdForUpdate(anyString());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 배치 크기만큼 나눠서 삭제한다")
+    void purgeExpired_DeletesInBatches() {
+        // given
+        given(refreshTokenRepository.findExpiredIds(any(), any(Pageable.class)))
+            .willReturn(ids(2), ids(1));
+
+        // when
+        refreshTokenService.purgeExpired();
+
+        // then
+        then(refreshTokenRepository).should(times(2)).deleteAllByIdInBatch(any());
+        then(refreshTokenRepository).should(times(2)).findExpiredIds(any(), any(Pageable.class));
+    }
+
+    private RefreshToken captureSaved() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        then(refreshTokenRepository).should().save(captor.capture());
+        return captor.getValue();
+    }
+
+    private String sessionOf(String token) {
+        return jwtUtil.parseClaims(token).get(JwtUtil.SESSION_ID_CLAIM, String.class);
+    }
+
+    private static List<String> ids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "token-" + i).toList();
+    }
+}
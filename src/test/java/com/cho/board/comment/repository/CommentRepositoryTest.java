@@ -0,0 +1,80 @@
+package com.cho.board.comment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.category.entity.Category;
+import com.cho.board.category.repository.CategoryRepository;
+import com.cho.board.comment.dtos.CommentRow;
+import com.cho.board.comment.entity.Comment;
+import com.cho.board.config.TestSecurityConfig;
+import com.cho.board.fixture.CategoryFixture;
+import com.cho.board.fixture.PostFixture;
+import com.cho.board.fixture.UserFixture;
+import com.cho.board.post.entity.Post;
+import com.cho.board.post.repository.PostRepository;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestSecurityConfig.class)
+@DisplayName("CommentRepository 통합 테스트 (H2)")
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("여러 댓글의 앞쪽 대댓글을 부모별 개수 제한으로 한 번에 조회한다")
+    void findFirstReplyRows_LimitPerParent() {
+        // given : 대댓글 3개 / 1개 / 0개 인 최상위 댓글
+        User author = userRepository.save(UserFixture.createDefaultUser());
+        Category category = categoryRepository.save(CategoryFixture.createDefaultCategory());
+        Post post = postRepository.save(PostFixture.createDefaultPost(author, category));
+
+        Comment first = save(post, author, null);
+        Comment second = save(post, author, null);
+        Comment empty = save(post, author, null);
+        Comment r1 = save(post, author, first);
+        Comment r2 = save(post, author, first);
+        save(post, author, first);
+        Comment r4 = save(post, author, second);
+
+        // when
+        List<CommentRow> rows = commentRepository.findFirstReplyRows(post.getId(),
+            List.of(first.getId(), second.getId(), empty.getId()), 2);
+
+        // then : 부모별 작성 순서 앞쪽 2개까지
+        assertThat(rows).extracting(CommentRow::getId)
+            .containsExactly(r1.getId(), r2.getId(), r4.getId());
+        assertThat(rows).extracting(CommentRow::getParentId)
+            .containsExactly(first.getId(), first.getId(), second.getId());
+    }
+
+    private Comment save(Post post, User author, Comment parent) {
+        return commentRepository.save(Comment.builder()
+            .content("댓글")
+            .post(post)
+            .author(author)
+            .parent(parent)
+            .build());
+    }
+}
@@ -0,0 +1,104 @@
+package com.cho.board.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.category.entity.Category;
+import com.cho.board.category.repository.CategoryRepository;
+import com.cho.board.comment.entity.Comment;
+import com.cho.board.comment.repository.CommentRepository;
+import com.cho.board.config.TestSecurityConfig;
+import com.cho.board.fixture.CategoryFixture;
+import com.cho.board.fixture.PostFixture;
+import com.cho.board.fixture.UserFixture;
+import com.cho.board.post.entity.Post;
+import com.cho.board.post.repository.PostRepository;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "comment.count.reconcile-batch-size=2")
+@ActiveProfiles("test")
+@Transactional
+@Import(TestSecurityConfig.class)
+@DisplayName("CommentCountReconciler 통합 테스트 (H2)")
+class CommentCountReconcilerTest {
+
+    @Autowired
+    private CommentCountReconciler reconciler;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("어긋난 게시글 댓글 수와 대댓글 수를 삭제되지 않은 댓글 기준으로 맞춘다")
+    void reconcile_FixesDrift() {
+        // given : 최상위 2개(1개는 소프트 삭제), 대댓글 2개 + 배치 크기(2)를 넘는 게시글 수
+        User author = userRepository.save(UserFixture.createDefaultUser());
+        Category category = categoryRepository.save(CategoryFixture.createDefaultCategory());
+        Post post = postRepository.save(PostFixture.createDefaultPost(author, category));
+        Post other = postRepository.save(PostFixture.createDefaultPost(author, category));
+        Post empty = postRepository.save(PostFixture.createDefaultPost(author, category));
+
+        Comment root = save(post, author, null);
+        save(post, author, root);
+        save(post, author, root);
+        Comment deleted = save(post, author, null);
+        deleted.delete();
+        save(other, author, null);
+        entityManager.flush();
+
+        // 증감이 빠지거나 중복된 상태
+        jdbcTemplate.update("UPDATE posts SET comment_count = ? WHERE id = ?", 7, post.getId());
+        jdbcTemplate.update("UPDATE posts SET comment_count = ? WHERE id = ?", -1, other.getId());
+        jdbcTemplate.update("UPDATE posts SET comment_count = ? WHERE id = ?", 0, empty.getId());
+        jdbcTemplate.update("UPDATE comments SET reply_count = ? WHERE id = ?", 5, root.getId());
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(commentCount(post)).isEqualTo(3);
+        assertThat(commentCount(other)).isEqualTo(1);
+        assertThat(commentCount(empty)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT reply_count FROM comments WHERE id = ?", Long.class, root.getId()))
+            .isEqualTo(2);
+    }
+
+    private Comment save(Post post, User author, Comment parent) {
+        return commentRepository.save(Comment.builder()
+            .content("댓글")
+            .post(post)
+            .author(author)
+            .parent(parent)
+            .build());
+    }
+
+    private long commentCount(Post post) {
+        return jdbcTemplate.queryForObject(
+            "SELECT comment_count FROM posts WHERE id = ?", Long.class, post.getId());
+    }
+}
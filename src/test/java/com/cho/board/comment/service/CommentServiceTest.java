@@ -0,0 +1,182 @@
+package com.cho.board.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.cho.board.comment.dtos.CommentCreateRequest;
+import com.cho.board.comment.entity.Comment;
+import com.cho.board.comment.repository.CommentRepository;
+import com.cho.board.fixture.UserFixture;
+import com.cho.board.post.entity.Post;
+import com.cho.board.post.repository.PostRepository;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentService 단위 테스트 (댓글 수 증감)")
+class CommentServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CommentThreadLoader commentThreadLoader;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = UserFixture.createDefaultUser();
+        ReflectionTestUtils.setField(author, "id", 1L);
+
+        post = Post.builder()
+            .title("테스트 제목")
+            .content("테스트 내용")
+            .author(author)
+            .build();
+        ReflectionTestUtils.setField(post, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("최상위 댓글을 작성하면 게시글 댓글 수만 1 늘어난다")
+    void create_Root_IncrementsCommentCount() {
+        // given
+        givenPostAndAuthor();
+        given(commentRepository.save(any(Comment.class)))
+            .willAnswer(invocation -> withId(invocation.getArgument(0), 100L));
+
+        // when
+        commentService.create(10L, 1L, request(null));
+
+        // then
+        then(postRepository).should().adjustCommentCount(10L, 1);
+        then(commentRepository).should(never()).adjustReplyCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대댓글을 작성하면 게시글 댓글 수와 부모 댓글의 대댓글 수가 1씩 늘어난다")
+    void create_Reply_IncrementsBothCounts() {
+        // given
+        givenPostAndAuthor();
+        Comment parent = comment(100L, null, List.of());
+        given(commentRepository.findById(100L)).willReturn(Optional.of(parent));
+        given(commentRepository.save(any(Comment.class)))
+            .willAnswer(invocation -> withId(invocation.getArgument(0), 101L));
+
+        // when
+        commentService.create(10L, 1L, request(100L));
+
+        // then
+        then(postRepository).should().adjustCommentCount(10L, 1);
+        then(commentRepository).should().adjustReplyCount(100L, 1);
+    }
+
+    @Test
+    @DisplayName("대댓글을 삭제하면 실제로 지우고 게시글 댓글 수와 부모의 대댓글 수를 1씩 줄인다")
+    void delete_Reply_DecrementsBothCounts() {
+        // given
+        Comment parent = comment(100L, null, List.of());
+        Comment reply = comment(101L, parent, List.of());
+        given(commentRepository.findById(101L)).willReturn(Optional.of(reply));
+
+        // when
+        commentService.delete(101L, 1L);
+
+        // then
+        then(commentRepository).should().delete(reply);
+        then(commentRepository).should().adjustReplyCount(100L, -1);
+        then(postRepository).should().adjustCommentCount(10L, -1);
+    }
+
+    @Test
+    @DisplayName("대댓글이 있는 최상위 댓글은 소프트 삭제하고 게시글 댓글 수만 1 줄인다")
+    void delete_RootWithReplies_SoftDeletes() {
+        // given
+        Comment root = comment(100L, null, List.of());
+        root.getChildren().add(comment(101L, root, List.of()));
+        given(commentRepository.findById(100L)).willReturn(Optional.of(root));
+
+        // when
+        commentService.delete(100L, 1L);
+
+        // then
+        assertThat(root.isDeleted()).isTrue();
+        then(commentRepository).should(never()).delete(any(Comment.class));
+        then(commentRepository).should(never()).adjustReplyCount(anyLong(), anyLong());
+        then(postRepository).should().adjustCommentCount(10L, -1);
+    }
+
+    @Test
+    @DisplayName("이미 소프트 삭제된 댓글을 다시 삭제해도 댓글 수는 바뀌지 않는다")
+    void delete_AlreadySoftDeleted_KeepsCounts() {
+        // given
+        Comment root = comment(100L, null, List.of());
+        root.getChildren().add(comment(101L, root, List.of()));
+        root.delete();
+        given(commentRepository.findById(100L)).willReturn(Optional.of(root));
+
+        // when
+        commentService.delete(100L, 1L);
+
+        // then
+        then(commentRepository).should(never()).delete(any(Comment.class));
+        then(postRepository).should(never()).adjustCommentCount(anyLong(), anyLong());
+    }
+
+    private void givenPostAndAuthor() {
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+        given(userRepository.findById(1L)).willReturn(Optional.of(author));
+    }
+
+    private Comment comment(Long id, Comment parent, List<Comment> children) {
+        return Comment.builder()
+            .id(id)
+            .content("댓글 " + id)
+            .post(post)
+            .author(author)
+            .parent(parent)
+            .children(new ArrayList<>(children))
+            .build();
+    }
+
+    private static Comment withId(Comment comment, Long id) {
+        ReflectionTestUtils.setField(comment, "id", id);
+        return comment;
+    }
+
+    private static CommentCreateRequest request(Long parentId) {
+        CommentCreateRequest request = new CommentCreateRequest();
+        ReflectionTestUtils.setField(request, "content", "댓글 내용");
+        ReflectionTestUtils.setField(request, "parentId", parentId);
+        return request;
+    }
+}
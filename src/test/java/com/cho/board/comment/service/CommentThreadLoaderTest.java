@@ -0,0 +1,128 @@
+package com.cho.board.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.cho.board.comment.dtos.CommentCursor;
+import com.cho.board.comment.dtos.CommentResponse;
+import com.cho.board.comment.dtos.CommentRow;
+import com.cho.board.comment.dtos.CommentThreadResponse;
+import com.cho.board.comment.repository.CommentRepository;
+import com.cho.board.global.response.CursorSliceResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CommentThreadLoader 단위 테스트")
+class CommentThreadLoaderTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private CommentThreadLoader commentThreadLoader;
+
+    @Test
+    @DisplayName("최상위 댓글 페이지와 스레드별 앞쪽 대댓글, 다음 커서를 함께 반환한다")
+    void loadThreads_WithInlineReplies() {
+        // given : 페이지 크기 2 + 1 건 조회
+        given(commentRepository.findRootRows(1L, Limit.of(3)))
+            .willReturn(List.of(row(10L, null, false), row(20L, null, false), row(30L, null, false)));
+        // 스레드 대댓글은 부모별 (replySize + 1) 개씩 한 번에 조회
+        given(commentRepository.findFirstReplyRows(1L, List.of(10L, 20L), 2L))
+            .willReturn(List.of(row(11L, 10L, false), row(12L, 10L, false)));
+
+        // when
+        CursorSliceResponse<CommentThreadResponse> threads =
+            commentThreadLoader.loadThreads(1L, null, 2, 1);
+
+        // then
+        assertThat(threads.isHasNext()).isTrue();
+        assertThat(CommentCursor.decode(threads.getNextCursor()).getId()).isEqualTo(20L);
+        assertThat(threads.getContent()).extracting(t -> t.getComment().getId())
+            .containsExactly(10L, 20L);
+
+        CommentThreadResponse first = threads.getContent().get(0);
+        assertThat(first.getReplies()).extracting(CommentResponse::getId).containsExactly(11L);
+        assertThat(first.isHasMoreReplies()).isTrue();
+        assertThat(CommentCursor.decode(first.getNextReplyCursor()).getId()).isEqualTo(11L);
+        assertThat(threads.getContent().get(1).getReplies()).isEmpty();
+        assertThat(threads.getContent().get(1).isHasMoreReplies()).isFalse();
+        then(commentRepository).should(never()).findReplyRows(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("최상위 댓글이 없으면 대댓글을 조회하지 않는다")
+    void loadThreads_Empty_NoReplyQuery() {
+        // given
+        given(commentRepository.findRootRows(1L, Limit.of(3))).willReturn(List.of());
+
+        // when
+        CursorSliceResponse<CommentThreadResponse> threads =
+            commentThreadLoader.loadThreads(1L, null, 2, 1);
+
+        // then
+        assertThat(threads.getContent()).isEmpty();
+        assertThat(threads.isHasNext()).isFalse();
+        then(commentRepository).should(never()).findFirstReplyRows(anyLong(), anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대댓글은 부모 댓글의 children 에만 한 번 포함된다")
+    void assemble_EachCommentOnce() {
+        // given
+        List<CommentRow> rows = List.of(
+            row(1L, null, false),
+            row(2L, 1L, false),
+            row(3L, null, false),
+            row(4L, 1L, false),
+            row(5L, 2L, false));
+
+        // when
+        List<CommentResponse> roots = CommentThreadLoader.assemble(rows);
+
+        // then
+        assertThat(roots).extracting(CommentResponse::getId).containsExactly(1L, 3L);
+        assertThat(roots.get(0).getChildren()).extracting(CommentResponse::getId)
+            .containsExactly(2L, 4L);
+        assertThat(roots.get(0).getChildren().get(0).getChildren())
+            .extracting(CommentResponse::getId)
+            .containsExactly(5L);
+        assertThat(roots.get(1).getChildren()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 부모 댓글은 내용을 가리고 자식은 유지한다")
+    void assemble_DeletedParent() {
+        // given
+        List<CommentRow> rows = List.of(
+            row(1L, null, true),
+            row(2L, 1L, false));
+
+        // when
+        List<CommentResponse> roots = CommentThreadLoader.assemble(rows);
+
+        // then
+        assertThat(roots).hasSize(1);
+        assertThat(roots.get(0).getContent()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(roots.get(0).getChildren()).extracting(CommentResponse::getId)
+            .containsExactly(2L);
+    }
+
+    private CommentRow row(Long id, Long parentId, boolean deleted) {
+        return new CommentRow(id, parentId, "댓글" + id, 10L, "작성자",
+            LocalDateTime.now(), LocalDateTime.now(), deleted, 0L);
+    }
+}
@@ -0,0 +1,235 @@
+package com.cho.board.email.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.cho.board.email.entity.EmailOutbox;
+import com.cho.board.email.entity.EmailOutboxStatus;
+import com.cho.board.email.repository.EmailOutboxRepository;
+import com.cho.board.global.config.EmailOutboxProperties;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxDispatcher 단위 테스트 (GreenMail SMTP)")
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailOutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmailOutboxProperties();
+        properties.setBatchSize(10);
+        properties.setInitialBackoff(Duration.ofSeconds(30));
+        properties.setMaxBackoff(Duration.ofMinutes(10));
+        properties.setMaxAttempts(3);
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("선점한 메일을 한 번에 발송하고 SENT 로 기록한다")
+    void dispatch_SendsBatch() throws Exception {
+        // given
+        List<EmailOutbox> batch = outboxes(3);
+        givenClaimed(batch);
+
+        // when
+        dispatcher(greenMail.getSmtp().getPort()).dispatch();
+
+        // then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("이메일 인증 코드");
+        assertThat(batch).allSatisfy(outbox -> {
+            assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+            assertThat(outbox.getSentAt()).isNotNull();
+            assertThat(outbox.getClaimToken()).isNull();
+        });
+        assertThat(dispatched("sent")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결할 수 없으면 실패 횟수를 늘리고 백오프 후 재시도하도록 남긴다")
+    void dispatch_ConnectionFailure_SchedulesRetry() throws Exception {
+        // given
+        List<EmailOutbox> batch = outboxes(2);
+        givenClaimed(batch);
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        dispatcher(closedPort()).dispatch();
+
+        // then
+        assertThat(batch).allSatisfy(outbox -> {
+            assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getLastError()).isNotBlank();
+            assertThat(outbox.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        });
+        assertThat(dispatched("retry")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("max-attempts 번째 실패하면 FAILED 로 두고 더 이상 보내지 않는다")
+    void dispatch_LastAttempt_MarksFailed() throws Exception {
+        // given
+        List<EmailOutbox> batch = outboxes(1);
+        ReflectionTestUtils.setField(batch.get(0), "attempts", 2);
+        givenClaimed(batch);
+
+        // when
+        dispatcher(closedPort()).dispatch();
+
+        // then
+        assertThat(batch.get(0).getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(batch.get(0).getAttempts()).isEqualTo(3);
+        assertThat(dispatched("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지난 메일은 보내지 않고 EXPIRED 로 기록한다")
+    void dispatch_ExpiredMessage_NotSent() throws Exception {
+        // given
+        List<EmailOutbox> batch = outboxes(2);
+        ReflectionTestUtils.setField(batch.get(0), "expiresAt", LocalDateTime.now().minusSeconds(1));
+        givenClaimed(batch);
+
+        // when
+        dispatcher(greenMail.getSmtp().getPort()).dispatch();
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(batch.get(0).getStatus()).isEqualTo(EmailOutboxStatus.EXPIRED);
+        assertThat(batch.get(1).getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(dispatched("expired")).isEqualTo(1);
+        assertThat(dispatched("sent")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다음 재시도 전에 유효 기간이 끝나면 재시도하지 않고 EXPIRED 로 둔다")
+    void dispatch_RetryAfterExpiry_MarksExpired() throws Exception {
+        // given : 백오프(30초)보다 먼저 만료
+        List<EmailOutbox> batch = outboxes(1);
+        ReflectionTestUtils.setField(batch.get(0), "expiresAt", LocalDateTime.now().plusSeconds(10));
+        givenClaimed(batch);
+
+        // when
+        dispatcher(closedPort()).dispatch();
+
+        // then
+        assertThat(batch.get(0).getStatus()).isEqualTo(EmailOutboxStatus.EXPIRED);
+        assertThat(batch.get(0).getAttempts()).isEqualTo(1);
+        assertThat(dispatched("expired")).isEqualTo(1);
+        assertThat(dispatched("retry")).isZero();
+    }
+
+    @Test
+    @DisplayName("정리 작업은 발송 완료뿐 아니라 최종 실패/만료된 메일도 삭제한다")
+    void cleanup_DeletesFinishedMessages() {
+        // given
+        given(outboxRepository.deleteFinishedBefore(any(), any())).willReturn(3);
+
+        // when
+        dispatcher(greenMail.getSmtp().getPort()).cleanup();
+
+        // then
+        then(outboxRepository).should().deleteFinishedBefore(
+            argThat(statuses -> statuses.containsAll(List.of(
+                EmailOutboxStatus.SENT, EmailOutboxStatus.FAILED, EmailOutboxStatus.EXPIRED))),
+            any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("재시도 대기는 실패할 때마다 두 배로 늘고 max-backoff 를 넘지 않는다")
+    void backoff_DoublesUpToMax() {
+        // given
+        EmailOutboxDispatcher dispatcher = dispatcher(greenMail.getSmtp().getPort());
+
+        // then
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(dispatcher.backoff(10)).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    private EmailOutboxDispatcher dispatcher(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+
+        return new EmailOutboxDispatcher(
+            outboxRepository,
+            mailSender,
+            new TransactionTemplate(transactionManager),
+            properties,
+            "noreply@test.com",
+            meterRegistry);
+    }
+
+    private void givenClaimed(List<EmailOutbox> batch) {
+        List<Long> ids = batch.stream().map(EmailOutbox::getId).toList();
+        given(outboxRepository.findDueIds(eq(EmailOutboxStatus.PENDING), any(), any(Pageable.class)))
+            .willReturn(ids);
+        given(outboxRepository.findByClaimToken(anyString())).willReturn(batch);
+    }
+
+    private double dispatched(String result) {
+        return meterRegistry.counter("email.outbox.dispatched", "result", result).count();
+    }
+
+    private static List<EmailOutbox> outboxes(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> {
+                EmailOutbox outbox = EmailOutbox.builder()
+                    .recipient("user" + i + "@example.com")
+                    .subject("이메일 인증 코드")
+                    .body("인증 코드: 12345" + i + "\n유효시간: 10분")
+                    .build();
+                ReflectionTestUtils.setField(outbox, "id", (long) i + 1);
+                return outbox;
+            })
+            .toList();
+    }
+
+    // 아무도 듣고 있지 않은 포트
+    private static int closedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
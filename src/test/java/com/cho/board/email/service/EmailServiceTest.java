@@ -0,0 +1,84 @@
+package com.cho.board.email.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.cho.board.email.entity.EmailOutbox;
+import com.cho.board.email.entity.EmailOutboxStatus;
+import com.cho.board.email.entity.EmailVerification;
+import com.cho.board.email.repository.EmailOutboxRepository;
+import com.cho.board.email.repository.EmailVerificationRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailService 단위 테스트")
+class EmailServiceTest {
+
+    @Mock
+    private EmailVerificationRepository verificationRepository;
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @InjectMocks
+    private EmailService emailService;
+
+    @Test
+    @DisplayName("인증 코드를 저장하면서 같은 코드로 발송 대기열에 메일을 넣는다")
+    void validateAndPrepareVerification_EnqueuesEmail() {
+        // given
+        given(verificationRepository.findTopByEmailAndVerifiedFalseOrderByCreatedAtDesc(
+            "test@example.com")).willReturn(Optional.empty());
+
+        // when
+        emailService.validateAndPrepareVerification("test@example.com");
+
+        // then
+        ArgumentCaptor<EmailVerification> verification =
+            ArgumentCaptor.forClass(EmailVerification.class);
+        ArgumentCaptor<EmailOutbox> outbox = ArgumentCaptor.forClass(EmailOutbox.class);
+        then(verificationRepository).should().save(verification.capture());
+        then(outboxRepository).should().save(outbox.capture());
+
+        assertThat(outbox.getValue().getRecipient()).isEqualTo("test@example.com");
+        assertThat(outbox.getValue().getBody())
+            .contains(verification.getValue().getVerificationCode());
+        assertThat(outbox.getValue().getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        // 인증 코드가 만료되면 메일도 보내지 않음
+        assertThat(outbox.getValue().getExpiresAt())
+            .isEqualTo(verification.getValue().getExpiryDate());
+    }
+
+    @Test
+    @DisplayName("5분 안에 다시 요청하면 예외가 발생하고 메일을 넣지 않는다")
+    void validateAndPrepareVerification_Fail_TooSoon() {
+        // given
+        EmailVerification recent = EmailVerification.builder()
+            .email("test@example.com")
+            .verificationCode("123456")
+            .expiryDate(LocalDateTime.now().plusMinutes(10))
+            .build();
+        ReflectionTestUtils.setField(recent, "createdAt", LocalDateTime.now().minusMinutes(1));
+        given(verificationRepository.findTopByEmailAndVerifiedFalseOrderByCreatedAtDesc(
+            "test@example.com")).willReturn(Optional.of(recent));
+
+        // when & then
+        assertThatThrownBy(() -> emailService.validateAndPrepareVerification("test@example.com"))
+            .isInstanceOf(IllegalStateException.class);
+
+        then(outboxRepository).should(never()).save(any());
+    }
+}
@@ -0,0 +1,210 @@
+package com.cho.board.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+
+import com.cho.board.category.entity.Category;
+import com.cho.board.category.repository.CategoryRepository;
+import com.cho.board.config.TestSecurityConfig;
+import com.cho.board.file.entity.StoredFile;
+import com.cho.board.file.repository.StoredFileRepository;
+import com.cho.board.fixture.CategoryFixture;
+import com.cho.board.fixture.PostFixture;
+import com.cho.board.fixture.UserFixture;
+import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.global.util.FileStorageUtil.StagedFile;
+import com.cho.board.post.entity.Post;
+import com.cho.board.post.repository.PostImageRepository;
+import com.cho.board.post.repository.PostRepository;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+// 커밋/롤백 후 처리(파일 삭제, 복구)를 확인해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@DisplayName("FileService 통합 테스트 (H2)")
+class FileServiceIntegrationTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void fileProperties(DynamicPropertyRegistry registry) {
+        registry.add("file.upload-dir", () -> uploadDir.toString());
+    }
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FileStorageUtil fileStorageUtil;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private PostImageRepository postImageRepository;
+
+    @MockitoSpyBean
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        postImageRepository.deleteAll();
+        postRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+        storedFileRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 내용을 여러 곳에서 참조하면 마지막 참조가 해제될 때만 파일을 삭제한다")
+    void release_DeletesOnLastReference() {
+        // given : 같은 내용의 프로필 이미지 2번 업로드
+        String filename = fileService.uploadProfileImage(image("a.png", "shared"));
+        String same = fileService.uploadProfileImage(image("b.png", "shared"));
+
+        // when & then : 참조가 남아 있으면 유지
+        fileService.release(filename);
+        assertThat(same).isEqualTo(filename);
+        assertThat(refCount(filename)).isEqualTo(1);
+        assertStored(filename);
+
+        // when & then : 마지막 참조가 해제되면 행과 파일 모두 삭제
+        fileService.release(filename);
+        assertThat(rowCount(filename)).isZero();
+        assertNotStored(filename);
+    }
+
+    @Test
+    @DisplayName("참조 없이 올린 지 유예 기간이 지나지 않은 파일은 참조가 해제되어도 남겨 둔다")
+    void release_KeepsDuringGracePeriod() {
+        // given : 작성 전 임시 업로드 후 게시글에 연결
+        String filename = fileService.uploadPostImage(image("a.png", "pending"));
+        fileService.acquire(filename);
+
+        // when : 게시글 작성 취소 등으로 바로 참조 해제
+        fileService.release(filename);
+
+        // then
+        assertThat(refCount(filename)).isZero();
+        assertStored(filename);
+
+        // when : 유예 기간이 지난 뒤 다시 연결했다가 해제
+        jdbcTemplate.update("UPDATE stored_files SET pending_at = ? WHERE filename = ?",
+            Timestamp.valueOf(LocalDateTime.now().minusHours(2)), filename);
+        fileService.acquire(filename);
+        fileService.release(filename);
+
+        // then
+        assertNotStored(filename);
+    }
+
+    @Test
+    @DisplayName("참조 해제가 롤백되면 분리해 둔 파일을 되돌린다")
+    void release_RestoresOnRollback() {
+        // given
+        String filename = fileService.uploadProfileImage(image("a.png", "rollback"));
+
+        // when : 해제 중에는 분리되어 조회되지 않다가
+        transactionTemplate.executeWithoutResult(status -> {
+            fileService.release(filename);
+            assertNotStored(filename);
+            status.setRollbackOnly();
+        });
+
+        // then : 롤백되면 파일과 참조 수가 그대로
+        assertStored(filename);
+        assertThat(refCount(filename)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업로드가 롤백되면 새로 만든 파일을 지우되, 그 사이 다른 업로드가 등록한 파일은 남긴다")
+    void uploadPostImages_CompensationKeepsRegisteredFiles() {
+        // given
+        User author = userRepository.save(UserFixture.createUserWithEmail("file@example.com"));
+        Category category = categoryRepository.save(CategoryFixture.createDefaultCategory());
+        Post post = postRepository.save(PostFixture.createDefaultPost(author, category));
+
+        // 저장소 업로드 후 DB 반영 전에 다른 업로드가 같은 내용을 등록하고, 이번 업로드는 실패
+        String[] registeredByOther = new String[1];
+        doAnswer(invocation -> {
+            registeredByOther[0] = fileService.uploadPostImage(image("other.png", "raced"));
+            throw new IllegalStateException("DB 반영 실패");
+        }).when(postRepository).findById(post.getId());
+
+        // when
+        List<MultipartFile> files = List.of(
+            image("raced.png", "raced"), image("only.png", "only-this-upload"));
+        assertThatThrownBy(() -> fileService.uploadPostImages(post.getId(), files))
+            .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertStored(registeredByOther[0]);
+        assertThat(storedFileRepository.findAll()).extracting(StoredFile::getFilename)
+            .containsExactly(registeredByOther[0]);
+        StagedFile onlyThisUpload = fileStorageUtil.stage(image("only.png", "only-this-upload"));
+        fileStorageUtil.discard(onlyThisUpload);
+        assertNotStored(onlyThisUpload.filename());
+        assertThat(postImageRepository.findByPostIdOrderByDisplayOrder(post.getId())).isEmpty();
+    }
+
+    private long refCount(String filename) {
+        return jdbcTemplate.queryForObject(
+            "SELECT ref_count FROM stored_files WHERE filename = ?", Long.class, filename);
+    }
+
+    private long rowCount(String filename) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM stored_files WHERE filename = ?", Long.class, filename);
+    }
+
+    private void assertStored(String filename) {
+        assertThat(fileStorageUtil.resolveStoredFile(filename)).isNotNull();
+    }
+
+    private void assertNotStored(String filename) {
+        assertThatThrownBy(() -> fileStorageUtil.resolveStoredFile(filename))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private MockMultipartFile image(String filename, String content) {
+        return new MockMultipartFile("file", filename, "image/png",
+            content.getBytes(StandardCharsets.UTF_8));
+    }
+}
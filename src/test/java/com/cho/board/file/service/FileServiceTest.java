@@ -0,0 +1,119 @@
+package com.cho.board.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.cho.board.file.entity.StoredFile;
+import com.cho.board.file.repository.StoredFileRepository;
+import com.cho.board.global.exception.FileStorageException;
+import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.post.entity.Post;
+import com.cho.board.post.entity.PostImage;
+import com.cho.board.post.event.PostImagesUploadedEvent;
+import com.cho.board.post.repository.PostImageRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FileService 단위 테스트")
+class FileServiceTest {
+
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    @Mock
+    private StoredFileRepository storedFileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FileService fileService;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        post = Post.builder()
+            .title("제목")
+            .content("내용")
+            .build();
+    }
+
+    @Test
+    @DisplayName("임시 업로드 이미지를 연결하면 참조 수를 올리고 PostImage 를 만든다 (이미 연결된 파일은 건너뜀)")
+    void attachPostImages_AttachesNewFilesOnly() {
+        // given
+        post.addImage(image("a.png", 0));
+        StoredFile storedFile = mock(StoredFile.class);
+        given(storedFile.getFileSize()).willReturn(123L);
+        given(storedFileRepository.findByFilenameForUpdate("b.png"))
+            .willReturn(Optional.of(storedFile));
+        given(postImageRepository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
+
+        // when
+        fileService.attachPostImages(post, List.of("a.png", "b.png", "b.png"));
+
+        // then
+        then(storedFileRepository).should().adjustRefCount("b.png", 1);
+        then(storedFileRepository).should(never()).findByFilenameForUpdate("a.png");
+        assertThat(post.getImages()).hasSize(2);
+
+        PostImage attached = post.getImages().get(1);
+        assertThat(attached.getFilePath()).isEqualTo("b.png");
+        assertThat(attached.getFileSize()).isEqualTo(123L);
+        assertThat(attached.getDisplayOrder()).isEqualTo(1);
+        then(eventPublisher).should().publishEvent(any(PostImagesUploadedEvent.class));
+    }
+
+    @Test
+    @DisplayName("업로드 기록이 없는(이미 정리된) 파일은 연결하지 않는다")
+    void attachPostImages_UnknownFile() {
+        // given
+        given(storedFileRepository.findByFilenameForUpdate("missing.png"))
+            .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> fileService.attachPostImages(post, List.of("missing.png")))
+            .isInstanceOf(ResourceNotFoundException.class);
+        then(storedFileRepository).should(never()).adjustRefCount(anyString(), anyLong());
+        assertThat(post.getImages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연결 후 이미지 수가 최대 개수를 넘으면 실패한다")
+    void attachPostImages_ExceedsLimit() {
+        // given
+        IntStream.range(0, 10).forEach(i -> post.addImage(image("img" + i + ".png", i)));
+
+        // when & then
+        assertThatThrownBy(() -> fileService.attachPostImages(post, List.of("new.png")))
+            .isInstanceOf(FileStorageException.class);
+        then(storedFileRepository).should(never()).adjustRefCount(anyString(), anyLong());
+    }
+
+    private PostImage image(String filename, int order) {
+        return PostImage.builder()
+            .post(post)
+            .filePath(filename)
+            .displayOrder(order)
+            .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.cho.board.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.file.service.ImageVariantGenerator.ImageVariants;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ImageVariantGenerator 단위 테스트")
+class ImageVariantGeneratorTest {
+
+    private static final String BASE = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    @TempDir
+    Path dir;
+
+    // 원본 위치와 축소본을 만드는 작업 디렉토리는 따로 (ImageVariantProcessor 와 같은 방식)
+    private Path originals;
+    private Path work;
+
+    private ImageVariantGenerator generator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        generator = new ImageVariantGenerator(200, 800);
+        originals = Files.createDirectory(dir.resolve("originals"));
+        work = Files.createDirectory(dir.resolve("work"));
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 정사각형 썸네일과 긴 변 기준 중간 크기 축소본을 만든다")
+    void generate_LargeImage() throws Exception {
+        // given
+        Path original = writeImage(BASE + ".jpg", 2400, 1600, BufferedImage.TYPE_INT_RGB, "jpg");
+
+        // when
+        Optional<ImageVariants> variants = generator.generate(original, work);
+
+        // then
+        assertThat(variants).isPresent();
+        assertThat(variants.get().thumbnail()).isEqualTo(BASE + "_thumb.jpg");
+        assertThat(variants.get().medium()).isEqualTo(BASE + "_medium.jpg");
+
+        BufferedImage thumbnail = ImageIO.read(work.resolve(variants.get().thumbnail()).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(200);
+
+        BufferedImage medium = ImageIO.read(work.resolve(variants.get().medium()).toFile());
+        assertThat(medium.getWidth()).isEqualTo(800);
+        assertThat(medium.getHeight()).isEqualTo(533);
+
+        // 원본 위치에는 아무것도 만들지 않음
+        try (var files = Files.list(originals)) {
+            assertThat(files).containsExactly(original);
+        }
+    }
+
+    @Test
+    @DisplayName("중간 크기보다 작은 이미지는 썸네일만 만들고 투명도가 있으면 PNG 로 저장한다")
+    void generate_SmallTransparentImage() throws Exception {
+        // given
+        Path original = writeImage(BASE + ".png", 600, 300, BufferedImage.TYPE_INT_ARGB, "png");
+
+        // when
+        Optional<ImageVariants> variants = generator.generate(original, work);
+
+        // then
+        assertThat(variants).isPresent();
+        assertThat(variants.get().thumbnail()).isEqualTo(BASE + "_thumb.png");
+        assertThat(variants.get().medium()).isNull();
+
+        BufferedImage thumbnail = ImageIO.read(work.resolve(variants.get().thumbnail()).toFile());
+        assertThat(thumbnail.getColorModel().hasAlpha()).isTrue();
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 형식은 축소본을 만들지 않는다")
+    void generate_UnsupportedFormat() throws Exception {
+        // given
+        Path original = originals.resolve(BASE + ".webp");
+        Files.writeString(original, "not an image", StandardCharsets.UTF_8);
+
+        // when
+        Optional<ImageVariants> variants = generator.generate(original, work);
+
+        // then
+        assertThat(variants).isEmpty();
+        try (var files = Files.list(work)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private Path writeImage(String filename, int width, int height, int type, String format)
+        throws Exception {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x += 10) {
+            for (int y = 0; y < height; y += 10) {
+                image.setRGB(x, y, 0x80FF8800);
+            }
+        }
+        Path path = originals.resolve(filename);
+        ImageIO.write(image, format, path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,120 @@
+package com.cho.board.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.cho.board.file.repository.StoredFileRepository;
+import com.cho.board.global.storage.FileSystemStorageBackend;
+import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.post.repository.PostImageRepository;
+import com.cho.board.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanFileSweeper 단위 테스트")
+class OrphanFileSweeperTest {
+
+    private static final String HASH = "ab".repeat(32);
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private StoredFileRepository storedFileRepository;
+
+    @Mock
+    private PostImageRepository postImageRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrphanFileSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageUtil fileStorageUtil = new FileStorageUtil(
+            uploadDir.resolve("profiles").toString(),
+            uploadDir.resolve("posts").toString(),
+            uploadDir.resolve("store").toString(),
+            new FileSystemStorageBackend(uploadDir.resolve("store")));
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new OrphanFileSweeper(
+            fileStorageUtil,
+            storedFileRepository,
+            postImageRepository,
+            userRepository,
+            new StaticFileService(fileStorageUtil),
+            new TransactionTemplate(transactionManager),
+            meterRegistry,
+            Duration.ofHours(1),
+            500,
+            1000);
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 참조 없는 파일만 삭제하고 회수한 용량을 기록한다")
+    void sweep_DeletesUnreferencedOldFiles() throws Exception {
+        // given
+        Path posts = uploadDir.resolve("posts");
+        Path orphan = write(posts.resolve("orphan.png"), "12345", true);
+        Path referenced = write(posts.resolve("referenced.png"), "keep", true);
+        Path recent = write(posts.resolve("recent.png"), "new", false);
+        Path orphanVariant = write(posts.resolve("gone_thumb.jpg"), "12", true);
+        Path stored = write(uploadDir.resolve("store/ab/ab/" + HASH + ".png"), "123", true);
+        Path staleTemp = write(uploadDir.resolve("store/.tmp/upload-1.tmp"), "1", true);
+
+        given(storedFileRepository.findLiveFilenames(anyCollection(), any())).willReturn(List.of());
+        given(postImageRepository.findReferencedFilePaths(anyCollection()))
+            .willReturn(List.of("referenced.png"));
+        given(userRepository.findReferencedProfileImages(anyCollection())).willReturn(List.of());
+        given(storedFileRepository.findByFilenameForUpdate(anyString()))
+            .willReturn(Optional.empty());
+
+        // when
+        sweeper.sweep();
+
+        // then
+        assertThat(orphan).doesNotExist();
+        assertThat(orphanVariant).doesNotExist();
+        assertThat(stored).doesNotExist();
+        assertThat(staleTemp).doesNotExist();
+        assertThat(referenced).exists();
+        assertThat(recent).exists();
+
+        assertThat(meterRegistry.counter("file.orphan.deleted").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("file.orphan.reclaimed").count()).isEqualTo(11);
+    }
+
+    private Path write(Path path, String content, boolean old) throws Exception {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        if (old) {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        }
+        return path;
+    }
+}
@@ -0,0 +1,120 @@
+package com.cho.board.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.storage.FileSystemStorageBackend;
+import com.cho.board.global.util.FileStorageUtil;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("StaticFileService 단위 테스트")
+class StaticFileServiceTest {
+
+    private static final String FILENAME = "0f8fad5b-d9cb-469f-a165-70867728950e.png";
+
+    @TempDir
+    Path uploadDir;
+
+    private StaticFileService staticFileService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FileStorageUtil fileStorageUtil = new FileStorageUtil(
+            uploadDir.resolve("profiles").toString(),
+            uploadDir.resolve("posts").toString(),
+            uploadDir.resolve("store").toString(),
+            new FileSystemStorageBackend(uploadDir.resolve("store")));
+        Files.writeString(uploadDir.resolve("posts").resolve(FILENAME), "0123456789",
+            StandardCharsets.UTF_8);
+        staticFileService = new StaticFileService(fileStorageUtil);
+    }
+
+    @Test
+    @DisplayName("파일 전체를 ETag 와 immutable 캐시 헤더와 함께 전송한다")
+    void serve_Full() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/images/" + FILENAME);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        staticFileService.serve(FILENAME, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 ETag 와 같으면 304 를 반환한다")
+    void serve_NotModified() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        staticFileService.serve(FILENAME, new MockHttpServletRequest("GET", "/"), first);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        staticFileService.serve(FILENAME, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Range 요청에는 요청한 구간만 206 으로 전송한다")
+    void serve_Range() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        staticFileService.serve(FILENAME, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+    }
+
+    @Test
+    @DisplayName("만족할 수 없는 Range 는 416 을 반환한다")
+    void serve_RangeNotSatisfiable() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-200");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        staticFileService.serve(FILENAME, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 저장 디렉토리 밖의 파일은 찾을 수 없다")
+    void serve_NotFound() {
+        // when & then
+        assertThatThrownBy(() -> staticFileService.serve("missing.png",
+            new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse()))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.cho.board.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cho.board.global.exception.FileStorageException;
+import com.cho.board.global.storage.FileSystemStorageBackend;
+import com.cho.board.global.util.FileStorageUtil;
+import com.cho.board.global.util.FileStorageUtil.StagedFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@DisplayName("UploadStager 단위 테스트")
+class UploadStagerTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ExecutorService executor;
+    private UploadStager uploadStager;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        FileStorageUtil fileStorageUtil = new FileStorageUtil(
+            uploadDir.resolve("profiles").toString(),
+            uploadDir.resolve("posts").toString(),
+            uploadDir.resolve("store").toString(),
+            new FileSystemStorageBackend(uploadDir.resolve("store")));
+        uploadStager = new UploadStager(fileStorageUtil, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 파일을 동시에 임시 저장하고 입력 순서대로 반환한다")
+    void stageAll_Success() throws Exception {
+        // given
+        List<MultipartFile> files = List.of(
+            image("a.png", "first"),
+            image("b.jpg", "second"),
+            image("c.gif", "third"));
+
+        // when
+        List<StagedFile> staged = uploadStager.stageAll(files);
+
+        // then
+        assertThat(staged).hasSize(3);
+        assertThat(staged.get(0).filename()).endsWith(".png");
+        assertThat(staged.get(1).filename()).endsWith(".jpg");
+        assertThat(Files.readString(staged.get(2).tempPath())).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 이미 쓴 임시 파일을 지우고 예외를 던진다")
+    void stageAll_FailureCleansUp() throws Exception {
+        // given
+        List<MultipartFile> files = List.of(
+            image("a.png", "first"),
+            image("b.exe", "not an image"),
+            image("c.png", "third"));
+
+        // when & then
+        assertThatThrownBy(() -> uploadStager.stageAll(files))
+            .isInstanceOf(FileStorageException.class);
+        try (var temps = Files.list(uploadDir.resolve("store").resolve(".tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    private MockMultipartFile image(String filename, String content) {
+        return new MockMultipartFile("files", filename, "image/png",
+            content.getBytes(StandardCharsets.UTF_8));
+    }
+}
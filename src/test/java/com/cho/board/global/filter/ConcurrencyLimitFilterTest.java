@@ -0,0 +1,110 @@
+package com.cho.board.global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.global.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("ConcurrencyLimitFilter 단위 테스트")
+class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setMaxConcurrentRequests(1);
+        properties.setMaxWaitingRequests(0);
+        properties.setMaxWait(Duration.ZERO);
+        properties.setRetryAfterSeconds(3);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(properties,
+            new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 한도에 차면 기다리지 않고 503 과 Retry-After 를 반환한다")
+    void doFilter_RejectsOverLimit() throws Exception {
+        // given : 첫 요청이 처리 중인 상태로 붙잡아 둠
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/posts"),
+                    new MockHttpServletResponse(), (request, response) -> {
+                        entered.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/posts"), rejected,
+            new MockFilterChain());
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(meterRegistry.counter("http.concurrency.rejected").count()).isEqualTo(1);
+
+        // 헬스 체크는 제한하지 않음
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health,
+            new MockFilterChain());
+        assertThat(health.getStatus()).isEqualTo(200);
+
+        // 자리가 나면 다시 처리
+        release.countDown();
+        holder.join();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/posts"), accepted,
+            new MockFilterChain());
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("비동기 응답은 작업이 끝날 때까지 자리를 유지한다")
+    void doFilter_HoldsPermitUntilAsyncComplete() throws Exception {
+        // given : 컨트롤러가 CompletableFuture 를 반환해 비동기 처리로 넘어간 요청
+        MockHttpServletRequest asyncRequest = new MockHttpServletRequest("PUT",
+            "/users/me/password");
+        asyncRequest.setAsyncSupported(true);
+        MockHttpServletResponse asyncResponse = new MockHttpServletResponse();
+        filter.doFilter(asyncRequest, asyncResponse,
+            (request, response) -> request.startAsync(request, response));
+
+        // when & then : 필터를 빠져나왔어도 작업이 끝나기 전에는 자리가 없음
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/posts"), rejected,
+            new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+
+        // when & then : 비동기 작업이 끝나면 반환
+        asyncRequest.getAsyncContext().complete();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/posts"), accepted,
+            new MockFilterChain());
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,115 @@
+package com.cho.board.global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.global.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("RateLimitFilter 단위 테스트")
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule login = new RateLimitProperties.Rule();
+        login.setPath("/auth/login");
+        login.setPerIp(limit(3, Duration.ofMinutes(1)));
+        login.setPerEmail(limit(1, Duration.ofMinutes(1)));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRules().put("login", login);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties,
+            new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 한도를 넘으면 429 와 Retry-After 를 반환하고 본문은 그대로 전달한다")
+    void doFilter_LimitsByEmailInJsonBody() throws Exception {
+        // given
+        String body = "{\"email\":\"Test@Test.com\",\"password\":\"test1234@\"}";
+        AtomicReference<String> received = new AtomicReference<>();
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(login("10.0.0.1", body), first, (request, response) ->
+            received.set(new String(request.getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8)));
+
+        // 대소문자가 달라도 같은 이메일
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(login("10.0.0.2", body.replace("Test@Test.com", "test@test.com")),
+            second, new MockFilterChain());
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(received.get()).isEqualTo(body);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(second.getContentAsString()).contains("\"code\":\"4290\"");
+        assertThat(meterRegistry.counter("http.ratelimit.rejected",
+            "rule", "login", "key", "email").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 IP 로 한도를 넘으면 이메일과 관계없이 거절한다")
+    void doFilter_LimitsByIp() throws Exception {
+        // given
+        int[] statuses = new int[4];
+
+        // when
+        for (int i = 0; i < statuses.length; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(login("10.0.0.1", "{\"email\":\"user" + i + "@test.com\"}"),
+                response, new MockFilterChain());
+            statuses[i] = response.getStatus();
+        }
+
+        // then
+        assertThat(statuses).containsExactly(200, 200, 200, 429);
+        assertThat(meterRegistry.counter("http.ratelimit.rejected",
+            "rule", "login", "key", "ip").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("규칙이 없는 경로는 제한하지 않는다")
+    void doFilter_IgnoresOtherPaths() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/posts"), response,
+                new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    private static MockHttpServletRequest login(String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity, Duration period) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setPeriod(period);
+        return limit;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cho.board.global.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucket 단위 테스트")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("capacity 번까지 연속으로 허용하고 이후에는 다음 토큰까지 남은 시간을 반환한다")
+    void tryConsume_BurstThenReject() {
+        // given : 10초에 5번 (2초마다 1개)
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(5, Duration.ofSeconds(10), now);
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(now)).isZero();
+        }
+        assertThat(bucket.tryConsume(now)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 지난 만큼 토큰이 채워진다")
+    void tryConsume_Refills() {
+        // given
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(5, Duration.ofSeconds(10), now);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryConsume(now);
+        }
+
+        // when : 4초 뒤 2개 채워짐
+        long later = now + 4 * SECOND;
+
+        // then
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 capacity 를 넘게 쌓이지 않는다")
+    void tryConsume_CapacityIsUpperBound() {
+        // given
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(10), now);
+
+        // when
+        long muchLater = now + 3_600 * SECOND;
+
+        // then
+        assertThat(bucket.tryConsume(muchLater)).isZero();
+        assertThat(bucket.tryConsume(muchLater)).isZero();
+        assertThat(bucket.tryConsume(muchLater)).isPositive();
+    }
+}
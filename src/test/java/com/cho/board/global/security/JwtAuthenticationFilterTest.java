@@ -0,0 +1,152 @@
+package com.cho.board.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.cho.board.global.config.JwtProperties;
+import com.cho.board.global.util.JwtUtil;
+import com.cho.board.user.entity.Role;
+import com.cho.board.user.entity.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter 단위 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-filter-unit-test-0123456789";
+    private static final long ACCESS_VALIDITY = 60_000L;
+    private static final long REFRESH_VALIDITY = 600_000L;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtUtil jwtUtil;
+    private UserPrincipalCache userPrincipalCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenValidity(ACCESS_VALIDITY);
+        properties.setRefreshTokenValidity(REFRESH_VALIDITY);
+
+        jwtUtil = new JwtUtil(properties);
+        userPrincipalCache = new UserPrincipalCache(properties);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, userPrincipalCache,
+            new RevokedSessionRegistry(properties), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Access Token 은 DB 조회 없이 인증된다")
+    void accessToken_Authenticates() throws Exception {
+        // when
+        Authentication authentication = authenticate(
+            jwtUtil.generateAccessToken(1L, "test@test.com", Role.USER, "session-1"));
+
+        // then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("test@test.com");
+        then(userDetailsService).should(never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("Refresh Token 을 Bearer 로 보내면 인증되지 않는다")
+    void refreshToken_Rejected() throws Exception {
+        // given
+        String refreshToken = jwtUtil.generateRefreshToken("test@test.com", "token-1",
+            "session-1", new Date(System.currentTimeMillis() + REFRESH_VALIDITY));
+
+        // when
+        Authentication authentication = authenticate(refreshToken);
+
+        // then
+        assertThat(authentication).isNull();
+        then(userDetailsService).should(never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("이전 형식 토큰 중 유효기간이 Access Token 보다 긴 토큰(Refresh)은 인증되지 않는다")
+    void legacyRefreshToken_Rejected() throws Exception {
+        // when
+        Authentication authentication = authenticate(legacyToken(System.currentTimeMillis(),
+            REFRESH_VALIDITY));
+
+        // then
+        assertThat(authentication).isNull();
+        then(userDetailsService).should(never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("이전 형식 Access Token 도 무효화 이전에 발급되었으면 인증되지 않는다")
+    void legacyAccessToken_InvalidatedBeforeIssue_Rejected() throws Exception {
+        // given
+        given(userDetailsService.loadUserByUsername("test@test.com"))
+            .willReturn(new CustomUserDetails(user()));
+        String token = legacyToken(System.currentTimeMillis() - 2_000L, ACCESS_VALIDITY);
+
+        // when
+        Authentication before = authenticate(token);
+        SecurityContextHolder.clearContext();
+        userPrincipalCache.invalidate(1L);
+        Authentication after = authenticate(token);
+
+        // then
+        assertThat(before).isNotNull();
+        assertThat(after).isNull();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // 사용자 ID / 권한 / 종류 클레임이 없던 이전 형식 토큰
+    private static String legacyToken(long issuedAt, long validity) {
+        return Jwts.builder()
+            .subject("test@test.com")
+            .issuedAt(new Date(issuedAt))
+            .expiration(new Date(issuedAt + validity))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+    }
+
+    private static User user() {
+        User user = User.builder()
+            .name("홍길동")
+            .nickname("테스트유저")
+            .email("test@test.com")
+            .password("encodedPassword")
+            .role(Role.USER)
+            .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+}
@@ -0,0 +1,170 @@
+package com.cho.board.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cho.board.global.config.PasswordHashingProperties;
+import com.cho.board.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+@DisplayName("PasswordHashingService 단위 테스트")
+class PasswordHashingServiceTest {
+
+    private PasswordHashingProperties properties;
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setStrength(4);
+        properties.setRetryAfterSeconds(2);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        service = new PasswordHashingService(executor, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시한 비밀번호는 원문과 일치하고 다른 비밀번호와는 일치하지 않는다")
+    void encodeAndMatches() {
+        // when
+        String encoded = service.encode("Password123!");
+
+        // then
+        assertThat(encoded).startsWith("$2a$04$");
+        assertThat(service.matches("Password123!", encoded)).isTrue();
+        assertThat(service.matches("Wrong123!", encoded)).isFalse();
+        assertThat(meterRegistry.timer("password.hashing.time", "operation", "encode").count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.timer("password.hashing.time", "operation", "matches").count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비동기 비교 결과를 이어서 해시할 수 있다")
+    void matchesAsync_ThenEncodeAsync() {
+        // given
+        String encoded = service.encode("Password123!");
+
+        // when
+        String reencoded = service.matchesAsync("Password123!", encoded)
+            .thenCompose(matched -> service.encodeAsync("NewPassword123!"))
+            .join();
+
+        // then
+        assertThat(service.matches("NewPassword123!", reencoded)).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 현재 설정보다 낮을 때만 다시 해시가 필요하다")
+    void needsRehash() {
+        // given : 현재 cost 5
+        properties.setStrength(5);
+        PasswordHashingService service = new PasswordHashingService(executor, properties,
+            meterRegistry);
+        String current = service.encode("Password123!");
+        String lower = new BCryptPasswordEncoder(4).encode("Password123!");
+        String higher = new BCryptPasswordEncoder(6).encode("Password123!");
+
+        // then : 다른 노드가 더 높은 cost 로 저장한 해시는 낮추지 않음
+        assertThat(service.needsRehash(current)).isFalse();
+        assertThat(service.needsRehash(lower)).isTrue();
+        assertThat(service.needsRehash(higher)).isFalse();
+        assertThat(service.needsRehash("not-bcrypt")).isFalse();
+        assertThat(service.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 ServiceUnavailableException 을 던진다")
+    void encode_RejectsWhenSaturated() throws Exception {
+        // given : 스레드 1개를 붙잡고 대기열 1칸을 채움
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> { });
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> service.encode("Password123!"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("retryAfterSeconds")
+                .isEqualTo(2);
+            assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간이 timeout 을 넘으면 ServiceUnavailableException 을 던진다")
+    void matches_TimesOut() throws Exception {
+        // given : 스레드 1개를 붙잡아 두어 요청이 대기열에서 기다리게 함
+        properties.setTimeout(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> service.matches("Password123!", "$2a$04$invalid"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("cost 측정 결과는 min-strength ~ max-strength 범위를 벗어나지 않는다")
+    void calibrate_StaysWithinBounds() {
+        // given
+        PasswordHashingProperties calibration = new PasswordHashingProperties();
+        calibration.setMinStrength(4);
+        calibration.setMaxStrength(6);
+
+        // when : 목표 시간이 아주 짧으면 최소, 아주 길면 최대
+        calibration.setTargetTime(Duration.ZERO);
+        int lowest = PasswordHashingService.calibrate(calibration);
+        calibration.setTargetTime(Duration.ofMinutes(1));
+        int highest = PasswordHashingService.calibrate(calibration);
+
+        // then
+        assertThat(lowest).isEqualTo(4);
+        assertThat(highest).isEqualTo(6);
+    }
+}
@@ -0,0 +1,61 @@
+package com.cho.board.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.global.config.JwtProperties;
+import com.cho.board.user.entity.Role;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UserPrincipalCache 단위 테스트")
+class UserPrincipalCacheTest {
+
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessTokenValidity(3_600_000L);
+        userPrincipalCache = new UserPrincipalCache(properties);
+    }
+
+    @Test
+    @DisplayName("토큰 클레임으로 인증 주체를 만든다")
+    void get_FromClaims() {
+        // when
+        CustomUserDetails principal =
+            userPrincipalCache.get(1L, "test@test.com", Role.ADMIN, new Date());
+
+        // then
+        assertThat(principal.getUserId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("test@test.com");
+        assertThat(principal.getAuthorities())
+            .extracting(Object::toString)
+            .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 발급된 토큰은 인증 주체를 돌려주지 않는다")
+    void get_RevokedBeforeInvalidation() {
+        // given
+        Date issuedAt = new Date(System.currentTimeMillis() - 5_000L);
+        userPrincipalCache.invalidate(1L);
+
+        // when & then
+        assertThat(userPrincipalCache.get(1L, "test@test.com", Role.USER, issuedAt)).isNull();
+        assertThat(userPrincipalCache.get(2L, "other@test.com", Role.USER, issuedAt)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("무효화 이후에 발급된 토큰은 인증된다")
+    void get_IssuedAfterInvalidation() {
+        // given
+        userPrincipalCache.invalidate(1L);
+        Date issuedAt = new Date(System.currentTimeMillis() + 1_000L);
+
+        // when & then
+        assertThat(userPrincipalCache.get(1L, "test@test.com", Role.USER, issuedAt)).isNotNull();
+    }
+}
@@ -0,0 +1,86 @@
+package com.cho.board.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cho.board.global.exception.FileStorageException;
+import com.cho.board.global.exception.ResourceNotFoundException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("FileSystemStorageBackend 단위 테스트")
+class FileSystemStorageBackendTest {
+
+    @TempDir
+    Path dir;
+
+    private FileSystemStorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new FileSystemStorageBackend(dir.resolve("store"));
+    }
+
+    @Test
+    @DisplayName("임시 파일을 key 위치로 옮겨 저장하고 구간을 읽을 수 있다")
+    void putAndStream() throws Exception {
+        // given
+        Path source = Files.writeString(dir.resolve("upload.tmp"), "0123456789");
+
+        // when
+        backend.put("ab/cd/file.png", source, "image/png");
+
+        // then
+        assertThat(source).doesNotExist();
+        assertThat(backend.stat("ab/cd/file.png"))
+            .hasValueSatisfying(object -> assertThat(object.size()).isEqualTo(10));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        backend.stream("ab/cd/file.png", 2, 3, out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("234");
+    }
+
+    @Test
+    @DisplayName("prefix 로 하위 경로까지 나열하고, 이동/삭제 후에는 조회되지 않는다")
+    void listMoveAndDelete() throws Exception {
+        // given
+        backend.put("ab/cd/base.png", Files.writeString(dir.resolve("a.tmp"), "a"), "image/png");
+        backend.put("ab/cd/base_thumb.jpg", Files.writeString(dir.resolve("b.tmp"), "b"),
+            "image/jpeg");
+        backend.put("ab/ef/other.png", Files.writeString(dir.resolve("c.tmp"), "c"), "image/png");
+
+        // when & then : 나열
+        List<String> all = new ArrayList<>();
+        backend.list("ab/", object -> all.add(object.key()));
+        assertThat(all).containsExactlyInAnyOrder(
+            "ab/cd/base.png", "ab/cd/base_thumb.jpg", "ab/ef/other.png");
+
+        List<String> variants = new ArrayList<>();
+        backend.list("ab/cd/base_", object -> variants.add(object.filename()));
+        assertThat(variants).containsExactly("base_thumb.jpg");
+
+        // when & then : 이동 / 삭제
+        assertThat(backend.move("ab/cd/base.png", ".trash/1")).isTrue();
+        assertThat(backend.exists("ab/cd/base.png")).isFalse();
+        assertThat(backend.move("ab/cd/base.png", ".trash/2")).isFalse();
+
+        backend.delete(".trash/1");
+        assertThatThrownBy(() -> backend.get(".trash/1"))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("저장 디렉토리 밖을 가리키는 key 는 거부한다")
+    void resolve_Traversal() {
+        assertThatThrownBy(() -> backend.stat("../secret.txt"))
+            .isInstanceOf(FileStorageException.class);
+    }
+}
@@ -0,0 +1,115 @@
+package com.cho.board.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+
+// 로컬 MinIO 로 실행 (docker compose --profile s3 up -d minio)
+// S3_TEST_ENDPOINT=http://localhost:9000 S3_TEST_ACCESS_KEY=... S3_TEST_SECRET_KEY=... ./gradlew test
+@EnabledIfEnvironmentVariable(named = "S3_TEST_ENDPOINT", matches = ".+")
+@DisplayName("S3StorageBackend 통합 테스트 (MinIO)")
+class S3StorageBackendIntegrationTest {
+
+    private static final String BUCKET = "board-test";
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    @TempDir
+    Path dir;
+
+    private S3StorageBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        S3Client client = S3Client.builder()
+            .endpointOverride(URI.create(System.getenv("S3_TEST_ENDPOINT")))
+            .region(Region.US_EAST_1)
+            .forcePathStyle(true)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                System.getenv("S3_TEST_ACCESS_KEY"), System.getenv("S3_TEST_SECRET_KEY"))))
+            .build();
+        try {
+            client.createBucket(builder -> builder.bucket(BUCKET));
+        } catch (BucketAlreadyOwnedByYouException e) {
+            // 이전 실행에서 만든 버킷
+        }
+        backend = new S3StorageBackend(client, BUCKET, PART_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<String> keys = new ArrayList<>();
+        backend.list("it/", object -> keys.add(object.key()));
+        keys.forEach(backend::delete);
+        backend.close();
+    }
+
+    @Test
+    @DisplayName("조각 크기보다 큰 파일은 멀티파트로 올리고 내용이 그대로 보존된다")
+    void put_Multipart() throws Exception {
+        // given : 조각 2개 + 나머지
+        byte[] content = new byte[(int) (PART_SIZE * 2 + 1234)];
+        new Random(42).nextBytes(content);
+        Path source = Files.write(dir.resolve("large.tmp"), content);
+
+        // when
+        backend.put("it/large.bin", source, "application/octet-stream");
+
+        // then
+        assertThat(source).doesNotExist();
+        assertThat(backend.stat("it/large.bin"))
+            .hasValueSatisfying(object -> assertThat(object.size()).isEqualTo(content.length));
+        try (InputStream in = backend.get("it/large.bin")) {
+            assertThat(sha256(in.readAllBytes())).isEqualTo(sha256(content));
+        }
+    }
+
+    @Test
+    @DisplayName("구간 읽기, 나열, 이동, 삭제가 파일 시스템 구현과 같게 동작한다")
+    void streamListMoveDelete() throws Exception {
+        // given
+        backend.put("it/ab/base.png", Files.writeString(dir.resolve("a.tmp"), "0123456789"),
+            "image/png");
+        backend.put("it/ab/base_thumb.jpg", Files.writeString(dir.resolve("b.tmp"), "t"),
+            "image/jpeg");
+
+        // when & then : 구간 읽기
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        backend.stream("it/ab/base.png", 2, 3, out);
+        assertThat(out.toString()).isEqualTo("234");
+
+        // when & then : 나열
+        List<String> variants = new ArrayList<>();
+        backend.list("it/ab/base_", object -> variants.add(object.filename()));
+        assertThat(variants).containsExactly("base_thumb.jpg");
+
+        // when & then : 이동 / 삭제
+        assertThat(backend.move("it/ab/base.png", "it/trash/1")).isTrue();
+        assertThat(backend.exists("it/ab/base.png")).isFalse();
+        assertThat(backend.move("it/ab/base.png", "it/trash/2")).isFalse();
+        backend.delete("it/trash/1");
+        assertThat(backend.exists("it/trash/1")).isFalse();
+    }
+
+    private static byte[] sha256(byte[] content) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(content);
+    }
+}
@@ -0,0 +1,168 @@
+package com.cho.board.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cho.board.global.exception.FileStorageException;
+import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.storage.FileSystemStorageBackend;
+import com.cho.board.global.util.FileStorageUtil.StagedFile;
+import com.cho.board.global.util.FileStorageUtil.StoredLocation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+@DisplayName("FileStorageUtil 단위 테스트")
+class FileStorageUtilTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageUtil fileStorageUtil;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageUtil = new FileStorageUtil(
+            uploadDir.resolve("profiles").toString(),
+            uploadDir.resolve("posts").toString(),
+            uploadDir.resolve("store").toString(),
+            new FileSystemStorageBackend(uploadDir.resolve("store")));
+    }
+
+    @Test
+    @DisplayName("같은 내용은 같은 해시 이름으로 한 번만 저장된다")
+    void stageAndCommit_Deduplicates() throws Exception {
+        // given
+        StagedFile first = fileStorageUtil.stage(image("a.PNG", "same-content"));
+        boolean createdFirst = fileStorageUtil.commit(first);
+
+        // when
+        StagedFile second = fileStorageUtil.stage(image("b.png", "same-content"));
+        boolean createdSecond = fileStorageUtil.commit(second);
+        fileStorageUtil.discard(second);
+
+        // then
+        assertThat(createdFirst).isTrue();
+        assertThat(createdSecond).isFalse();
+        assertThat(second.filename()).isEqualTo(first.filename());
+        assertThat(first.filename()).matches("^[0-9a-f]{64}\\.png$");
+
+        StoredLocation stored = fileStorageUtil.resolveStoredFile(first.filename());
+        assertThat(stored.key()).isEqualTo(first.filename().substring(0, 2) + "/"
+            + first.filename().substring(2, 4) + "/" + first.filename());
+        try (var in = stored.backend().get(stored.key())) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("same-content");
+        }
+        assertThat(Files.exists(second.tempPath())).isFalse();
+    }
+
+    @Test
+    @DisplayName("임시 파일을 남겨 두므로, 올린 뒤 삭제된 파일을 다시 commit 하면 다시 올린다")
+    void commit_ReputsAfterDetach() {
+        // given
+        StagedFile staged = fileStorageUtil.stage(image("a.png", "content"));
+        fileStorageUtil.commit(staged);
+        fileStorageUtil.detach(staged.filename());
+
+        // when
+        boolean created = fileStorageUtil.commit(staged);
+
+        // then
+        assertThat(created).isTrue();
+        assertThat(fileStorageUtil.resolveStoredFile(staged.filename()).object().size())
+            .isEqualTo(7);
+        assertThat(Files.exists(staged.tempPath())).isTrue();
+        fileStorageUtil.discard(staged);
+        assertThat(Files.exists(staged.tempPath())).isFalse();
+    }
+
+    @Test
+    @DisplayName("분리한 파일은 복구할 수 있고, 삭제 시 축소본도 함께 지운다")
+    void detachRestoreAndDelete() throws Exception {
+        // given
+        StagedFile staged = fileStorageUtil.stage(image("a.png", "content"));
+        fileStorageUtil.commit(staged);
+        String filename = staged.filename();
+        String thumbnail = filename.replace(".png", "_thumb.jpg");
+        Path variant = Files.writeString(uploadDir.resolve("thumb.tmp"), "thumb");
+        fileStorageUtil.storeVariant(filename, thumbnail, variant);
+
+        // when & then : 분리하면 조회되지 않고, 복구하면 다시 조회된다
+        String detached = fileStorageUtil.detach(filename);
+        assertThatThrownBy(() -> fileStorageUtil.resolveStoredFile(filename))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        fileStorageUtil.restore(detached, filename);
+        assertThat(fileStorageUtil.resolveStoredFile(filename).object().size()).isEqualTo(7);
+
+        // when & then : 삭제하면 축소본까지 함께 지운다
+        List<String> deleted = fileStorageUtil.deleteWithVariants(filename, null);
+        assertThat(deleted).containsExactlyInAnyOrder(filename, thumbnail);
+        assertThatThrownBy(() -> fileStorageUtil.resolveStoredFile(thumbnail))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("같은 내용이면 확장자(.jpg/.jpeg, 잘못 붙인 확장자)가 달라도 같은 이름이 된다")
+    void stage_CanonicalExtension() {
+        // given
+        byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 1, 2, 3};
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2};
+
+        // when
+        StagedFile jpg = fileStorageUtil.stage(image("a.jpg", jpeg));
+        StagedFile jpegNamed = fileStorageUtil.stage(image("b.JPEG", jpeg));
+        StagedFile mislabeled = fileStorageUtil.stage(image("c.jpg", png));
+        StagedFile unknown = fileStorageUtil.stage(image("d.jpeg", "not-an-image"));
+
+        // then
+        assertThat(jpg.filename()).endsWith(".jpg").isEqualTo(jpegNamed.filename());
+        assertThat(mislabeled.filename()).endsWith(".png");
+        assertThat(unknown.filename()).endsWith(".jpg");
+    }
+
+    @Test
+    @DisplayName("같은 해시의 다른 확장자 원본이 남아 있으면 공유하는 축소본은 지우지 않는다")
+    void deleteWithVariants_KeepsSharedVariants() throws Exception {
+        // given : 이전 방식으로 저장된 {hash}.jpeg 와 {hash}.jpg 가 축소본을 함께 사용
+        StagedFile staged = fileStorageUtil.stage(image("a.jpg", "content"));
+        fileStorageUtil.commit(staged);
+        String jpg = staged.filename();
+        String jpeg = jpg.replace(".jpg", ".jpeg");
+        String thumbnail = jpg.replace(".jpg", "_thumb.jpg");
+        fileStorageUtil.storeVariant(jpg, jpeg,
+            Files.writeString(uploadDir.resolve("jpeg.tmp"), "content"));
+        fileStorageUtil.storeVariant(jpg, thumbnail,
+            Files.writeString(uploadDir.resolve("thumb.tmp"), "thumb"));
+
+        // when
+        List<String> deleted = fileStorageUtil.deleteWithVariants(jpeg, null);
+
+        // then
+        assertThat(deleted).containsExactly(jpeg);
+        assertThat(fileStorageUtil.resolveStoredFile(thumbnail)).isNotNull();
+        assertThat(fileStorageUtil.resolveStoredFile(jpg)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("저장 디렉토리 밖을 가리키는 이름은 거부한다")
+    void resolveStoredFile_Traversal() {
+        assertThatThrownBy(() -> fileStorageUtil.resolveStoredFile("../secret.txt"))
+            .isInstanceOf(FileStorageException.class);
+    }
+
+    private MockMultipartFile image(String filename, String content) {
+        return image(filename, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MockMultipartFile image(String filename, byte[] content) {
+        return new MockMultipartFile("file", filename, "image/png", content);
+    }
+}
@@ -0,0 +1,104 @@
+package com.cho.board.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cho.board.global.config.JwtProperties;
+import com.cho.board.global.exception.CustomJwtException;
+import com.cho.board.user.entity.Role;
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JwtUtil 단위 테스트")
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(properties(60_000L));
+    }
+
+    @Test
+    @DisplayName("검증된 토큰의 클레임을 반환하고 같은 토큰은 캐시에서 반환한다")
+    void parseClaims_Cached() {
+        // given
+        String token = jwtUtil.generateAccessToken(1L, "test@test.com", Role.USER);
+
+        // when
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        // then
+        assertThat(first.getSubject()).isEqualTo("test@test.com");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Access Token 에 사용자 ID 와 권한 클레임이 포함된다")
+    void generateAccessToken_IncludesUserClaims() {
+        // given
+        String token = jwtUtil.generateAccessToken(7L, "admin@test.com", Role.ADMIN);
+
+        // when
+        Claims claims = jwtUtil.parseClaims(token);
+
+        // then
+        assertThat(((Number) claims.get(JwtUtil.USER_ID_CLAIM)).longValue()).isEqualTo(7L);
+        assertThat(claims.get(JwtUtil.ROLE_CLAIM, String.class)).isEqualTo("ADMIN");
+    }
+
+    @Test
+    @DisplayName("Refresh Token 에 토큰 ID(jti) 와 세션 ID 가 포함된다")
+    void generateRefreshToken_IncludesTokenAndSessionId() {
+        // given
+        Date expiry = new Date(System.currentTimeMillis() + 60_000L);
+        String token = jwtUtil.generateRefreshToken("test@test.com", "token-1", "session-1",
+            expiry);
+
+        // when
+        Claims claims = jwtUtil.parseClaims(token);
+
+        // then
+        assertThat(claims.getId()).isEqualTo("token-1");
+        assertThat(claims.get(JwtUtil.SESSION_ID_CLAIM, String.class)).isEqualTo("session-1");
+        assertThat(claims.getExpiration().getTime() / 1000).isEqualTo(expiry.getTime() / 1000);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 예외가 발생한다")
+    void parseClaims_TamperedSignature() {
+        // given
+        String token = jwtUtil.generateAccessToken(1L, "test@test.com", Role.USER);
+        String tampered = token.substring(0, token.length() - 2)
+            + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.parseClaims(tampered))
+            .isInstanceOf(CustomJwtException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 예외가 발생한다")
+    void parseClaims_Expired() {
+        // given
+        JwtUtil expiredJwtUtil = new JwtUtil(properties(-1_000L));
+        String token = expiredJwtUtil.generateAccessToken(1L, "test@test.com", Role.USER);
+
+        // when & then
+        assertThatThrownBy(() -> expiredJwtUtil.parseClaims(token))
+            .isInstanceOf(CustomJwtException.class)
+            .hasMessage("토큰이 만료되었습니다");
+    }
+
+    private JwtProperties properties(long accessTokenValidity) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-for-jwt-util-unit-test-0123456789");
+        properties.setAccessTokenValidity(accessTokenValidity);
+        properties.setRefreshTokenValidity(120_000L);
+        return properties;
+    }
+}
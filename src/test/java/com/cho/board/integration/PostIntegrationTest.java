@@ -17,10 +17,12 @@ import com.cho.board.fixture.PostFixture;
 import com.cho.board.fixture.UserFixture;
 import com.cho.board.post.entity.Post;
 import com.cho.board.post.repository.PostRepository;
+import com.cho.board.post.service.ViewCountAggregator;
 import com.cho.board.user.entity.User;
 import com.cho.board.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -60,6 +62,12 @@ class PostIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ViewCountAggregator viewCountAggregator;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private Category testCategory;
 
@@ -210,6 +218,10 @@ class PostIntegrationTest {
             .andExpect(jsonPath("$.success").value(true))
             .andExpect(jsonPath("$.data.viewCount").value(initialViewCount + 1));
 
+        // 조회수는 집계기에 누적되었다가 flush 시점에 반영된다
+        viewCountAggregator.flush();
+        entityManager.clear();
+
         // DB 검증
         Post updatedPost = postRepository.findById(post.getId())
             .orElseThrow(() -> new AssertionError("Post not found"));
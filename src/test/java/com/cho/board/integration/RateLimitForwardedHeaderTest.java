@@ -0,0 +1,58 @@
+package com.cho.board.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+// 실제 Tomcat 으로 띄워서 프록시(127.0.0.1)가 보낸 X-Forwarded-For 가 IP 기준 제한에 쓰이는지 확인
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+    "rate-limit.enabled=true",
+    "rate-limit.rules.login.per-ip.capacity=2",
+    "rate-limit.rules.login.per-email.capacity=100"
+})
+@ActiveProfiles("security-test")
+@DisplayName("프록시 뒤 요청 수 제한 통합 테스트")
+class RateLimitForwardedHeaderTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("프록시를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 별로 제한한다")
+    void limitsByForwardedClientIp() {
+        // when : 같은 프록시를 거친 서로 다른 클라이언트
+        HttpStatus first = login("203.0.113.1", 0);
+        HttpStatus second = login("203.0.113.1", 1);
+        HttpStatus third = login("203.0.113.1", 2);
+        HttpStatus otherClient = login("203.0.113.2", 3);
+
+        // then : 한 클라이언트가 한도를 넘어도 다른 클라이언트는 거절되지 않음
+        assertThat(first).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(second).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(third).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(otherClient).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private HttpStatus login(String clientIp, int index) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientIp);
+        headers.set("X-Real-IP", clientIp);
+        String body = "{\"email\":\"user" + index + "@test.com\",\"password\":\"password123!\"}";
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/auth/login",
+            new HttpEntity<>(body, headers), String.class);
+        return HttpStatus.valueOf(response.getStatusCode().value());
+    }
+}
@@ -0,0 +1,104 @@
+package com.cho.board.post.dtos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cho.board.global.exception.BusinessException;
+import com.cho.board.global.exception.ErrorCode;
+import com.cho.board.post.dtos.PostCursor.SortKey;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("PostCursor 단위 테스트")
+class PostCursorTest {
+
+    @Test
+    @DisplayName("작성일 커서는 인코딩 후 디코딩하면 같은 값이 된다")
+    void roundTrip_CreatedAt() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000);
+        PostCursor cursor = new PostCursor(SortKey.CREATED_AT, createdAt, null, 42L);
+
+        // when
+        PostCursor decoded = PostCursor.decode(cursor.encode(), SortKey.CREATED_AT);
+
+        // then
+        assertThat(decoded.getSortKey()).isEqualTo(SortKey.CREATED_AT);
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getViewCount()).isNull();
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("조회수 커서는 인코딩 후 디코딩하면 같은 값이 된다")
+    void roundTrip_ViewCount() {
+        // given
+        PostCursor cursor = new PostCursor(SortKey.VIEW_COUNT, null, 1_000L, 7L);
+
+        // when
+        PostCursor decoded = PostCursor.decode(cursor.encode(), SortKey.VIEW_COUNT);
+
+        // then
+        assertThat(decoded.getSortKey()).isEqualTo(SortKey.VIEW_COUNT);
+        assertThat(decoded.getViewCount()).isEqualTo(1_000L);
+        assertThat(decoded.getCreatedAt()).isNull();
+        assertThat(decoded.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("요청한 정렬 기준과 다른 커서는 거부한다")
+    void decode_Fail_SortKeyMismatch() {
+        // given
+        String cursor = new PostCursor(SortKey.VIEW_COUNT, null, 3L, 1L).encode();
+
+        // when & then
+        assertThatThrownBy(() -> PostCursor.decode(cursor, SortKey.CREATED_AT))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "CREATED_AT|not-a-date|1",
+        "VIEW_COUNT|abc|1",
+        "VIEW_COUNT|3|abc",
+        "VIEW_COUNT|3",
+        "VIEW_COUNT|3|1|9",
+        "UNKNOWN|3|1"
+    })
+    @DisplayName("내용을 바꾼 커서는 INVALID_CURSOR 로 거부한다")
+    void decode_Fail_Tampered(String raw) {
+        // given
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        SortKey expected = raw.startsWith("CREATED_AT") ? SortKey.CREATED_AT : SortKey.VIEW_COUNT;
+
+        // when & then
+        assertThatThrownBy(() -> PostCursor.decode(cursor, expected))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("Base64 가 아닌 커서는 INVALID_CURSOR 로 거부한다")
+    void decode_Fail_NotBase64() {
+        assertThatThrownBy(() -> PostCursor.decode("%%%not-base64%%%", SortKey.CREATED_AT))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 기준은 거부하고, 비어 있으면 작성일 기준")
+    void sortKeyFrom() {
+        assertThat(SortKey.from(null)).isEqualTo(SortKey.CREATED_AT);
+        assertThat(SortKey.from("viewCount")).isEqualTo(SortKey.VIEW_COUNT);
+        assertThatThrownBy(() -> SortKey.from("title"))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,122 @@
+package com.cho.board.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.category.entity.Category;
+import com.cho.board.category.repository.CategoryRepository;
+import com.cho.board.config.TestSecurityConfig;
+import com.cho.board.fixture.CategoryFixture;
+import com.cho.board.fixture.PostFixture;
+import com.cho.board.fixture.UserFixture;
+import com.cho.board.global.constants.CacheNames;
+import com.cho.board.post.dtos.PostSearchCondition;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestSecurityConfig.class)
+@DisplayName("검색 개수 캐시 통합 테스트 (H2)")
+class PostSearchCountCacheTest {
+
+    private static final int MATCHING_POSTS = 12;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User author;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheNames.POST_SEARCH_COUNT).clear();
+
+        author = userRepository.save(UserFixture.createUserWithEmail("count@example.com"));
+        category = categoryRepository.save(CategoryFixture.createDefaultCategory());
+        // 첫 페이지(10)를 넘겨야 count 쿼리(캐시)를 사용
+        IntStream.range(0, MATCHING_POSTS).forEach(i -> savePost("Spring 글 " + i));
+    }
+
+    @Test
+    @DisplayName("통합 검색 : 대소문자만 다른 검색어는 같은 캐시 항목을 쓴다")
+    void filters_CaseInsensitiveKey() {
+        // given
+        long first = postRepository.searchPostsWithFilters("Spring", category.getId(), FIRST_PAGE)
+            .getTotalElements();
+        savePost("spring 추가 글");
+
+        // when
+        long cached = postRepository.searchPostsWithFilters("SPRING", category.getId(), FIRST_PAGE)
+            .getTotalElements();
+
+        // then : 캐시된 개수를 그대로 사용 (새 글이 TTL 동안 반영되지 않음)
+        assertThat(first).isEqualTo(MATCHING_POSTS);
+        assertThat(cached).isEqualTo(MATCHING_POSTS);
+    }
+
+    @Test
+    @DisplayName("조건 검색 : 대소문자만 다른 검색어는 같은 캐시 항목을 쓴다")
+    void search_CaseInsensitiveKey() {
+        // given
+        long first = postRepository.searchPosts(condition("Spring"), FIRST_PAGE)
+            .getTotalElements();
+        savePost("SPRING 추가 글");
+
+        // when
+        long cached = postRepository.searchPosts(condition("spring"), FIRST_PAGE)
+            .getTotalElements();
+
+        // then : 캐시된 개수를 그대로 사용 (MySQL 은 _ci 콜레이션이라 목록도 대소문자 구분 없이 같음)
+        assertThat(first).isEqualTo(MATCHING_POSTS);
+        assertThat(cached).isEqualTo(MATCHING_POSTS);
+    }
+
+    @Test
+    @DisplayName("검색 조건이 다르면 캐시를 나눠 쓴다")
+    void differentCondition_SeparateKey() {
+        // given
+        postRepository.searchPostsWithFilters("Spring", category.getId(), FIRST_PAGE);
+        savePost("Spring 추가 글");
+
+        // when : 같은 검색어라도 통합 검색과 조건 검색은 다른 키
+        long other = postRepository.searchPosts(condition("Spring"), FIRST_PAGE)
+            .getTotalElements();
+
+        // then
+        assertThat(other).isEqualTo(MATCHING_POSTS + 1);
+    }
+
+    private PostSearchCondition condition(String title) {
+        return PostSearchCondition.builder()
+            .title(title)
+            .categoryId(category.getId())
+            .build();
+    }
+
+    private void savePost(String title) {
+        postRepository.save(PostFixture.createPost(title, "내용", author, category));
+    }
+}
@@ -0,0 +1,97 @@
+package com.cho.board.post.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("PostSearchIndex 단위 테스트")
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex();
+        index.index(1L, 10L, now, "스프링 부트 입문", "JPA 와 QueryDSL 을 다룹니다", "홍길동");
+        index.index(2L, 10L, now, "자바 기초", "스프링 없이 순수 자바로 작성", "김철수");
+        index.index(3L, 20L, now, "Spring Security", "JWT 인증 정리", "홍길동");
+    }
+
+    @Test
+    @DisplayName("한글 검색어는 2-gram 이 모두 포함된 게시글만 찾고 제목 일치가 더 높은 순위다")
+    void search_Korean() {
+        // when
+        var result = index.search("스프링", null).ids();
+
+        // then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("영문 검색어는 대소문자 구분 없이 접두어로 찾는다")
+    void search_EnglishPrefix() {
+        // when & then
+        assertThat(index.search("SPR", null).ids()).containsExactly(3L);
+        assertThat(index.search("querydsl", null).ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("카테고리 필터와 작성자 이름 검색")
+    void search_CategoryAndAuthor() {
+        // when & then
+        assertThat(index.search("홍길동", null).ids()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("홍길동", 20L).ids()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("결과 ID 는 상위 1000개까지, 전체 개수는 제한 전 일치 수")
+    void search_TotalBeforeLimit() {
+        // given
+        LongStream.rangeClosed(100, 1_100).forEach(id ->
+            index.index(id, 30L, now, "페이징 글 " + id, "내용", "작성자"));
+
+        // when
+        var result = index.search("페이징", null);
+
+        // then
+        assertThat(result.ids()).hasSize(1_000);
+        assertThat(result.total()).isEqualTo(1_001);
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 색인에 반영된다")
+    void indexUpdateAndRemove() {
+        // when
+        index.index(2L, 10L, now.plusMinutes(1), "코틀린 기초", "순수 코틀린", "김철수");
+        index.remove(1L);
+
+        // then
+        assertThat(index.search("스프링", null).ids()).isEmpty();
+        assertThat(index.search("코틀린", null).ids()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 저장하고 다시 읽으면 같은 검색 결과와 기준 시각을 가진다")
+    void snapshot_SaveAndLoad(@TempDir Path tempDir) throws Exception {
+        // given
+        Path snapshot = tempDir.resolve("posts.idx");
+        index.save(snapshot);
+
+        // when
+        PostSearchIndex restored = new PostSearchIndex();
+        boolean loaded = restored.load(snapshot);
+
+        // then
+        assertThat(loaded).isTrue();
+        assertThat(restored.size()).isEqualTo(3);
+        assertThat(restored.getWatermark()).isEqualTo(now);
+        assertThat(restored.search("스프링", null).ids()).containsExactly(1L, 2L);
+    }
+}
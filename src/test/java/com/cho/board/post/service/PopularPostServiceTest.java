@@ -0,0 +1,121 @@
+package com.cho.board.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+import com.cho.board.category.entity.CategoryType;
+import com.cho.board.comment.event.CommentCreatedEvent;
+import com.cho.board.global.constants.CacheNames;
+import com.cho.board.post.dtos.PostListResponse;
+import com.cho.board.post.dtos.PostListRow;
+import com.cho.board.post.event.PostViewedEvent;
+import com.cho.board.post.repository.PostRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PopularPostService 단위 테스트")
+class PopularPostServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PopularPostService popularPostService;
+
+    @BeforeEach
+    void setUp() {
+        popularPostService = new PopularPostService(
+            postRepository,
+            new ConcurrentMapCacheManager(CacheNames.POPULAR_POSTS),
+            2,
+            Duration.ofHours(6));
+    }
+
+    @Test
+    @DisplayName("조회와 댓글 가중치를 합산한 점수 순으로 전체 인기 목록을 만든다")
+    void refresh_GlobalRanking() {
+        // given
+        view(1L, 10L, 3);
+        view(2L, 10L, 1);
+        popularPostService.onCommentCreated(new CommentCreatedEvent(2L, 10L, 100L));
+        view(3L, 20L, 2);
+        givenRows(1L, 2L, 3L);
+
+        // when
+        popularPostService.refresh();
+
+        // then : 2번(조회 1 + 댓글 5) > 1번(조회 3) > 3번(조회 2), 상위 2개만
+        assertThat(popularPostService.getPopularPosts(null))
+            .extracting(PostListResponse::getId)
+            .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("카테고리별 인기 목록은 해당 카테고리 게시글만 포함한다")
+    void refresh_CategoryRanking() {
+        // given
+        view(1L, 10L, 3);
+        view(2L, 10L, 1);
+        view(3L, 20L, 2);
+        givenRows(1L, 2L, 3L);
+
+        // when
+        popularPostService.refresh();
+
+        // then
+        assertThat(popularPostService.getPopularPosts(10L))
+            .extracting(PostListResponse::getId)
+            .containsExactly(1L, 2L);
+        assertThat(popularPostService.getPopularPosts(20L))
+            .extracting(PostListResponse::getId)
+            .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("조회되지 않는(삭제된) 게시글은 목록에서 빠진다")
+    void refresh_SkipsMissingPosts() {
+        // given
+        view(1L, 10L, 3);
+        view(2L, 10L, 1);
+        givenRows(2L);
+
+        // when
+        popularPostService.refresh();
+
+        // then
+        assertThat(popularPostService.getPopularPosts(null))
+            .extracting(PostListResponse::getId)
+            .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("갱신 전에는 빈 목록을 반환한다")
+    void getPopularPosts_BeforeRefresh() {
+        // when & then
+        assertThat(popularPostService.getPopularPosts(null)).isEmpty();
+    }
+
+    private void view(Long postId, Long categoryId, int times) {
+        for (int i = 0; i < times; i++) {
+            popularPostService.onPostViewed(new PostViewedEvent(postId, categoryId));
+        }
+    }
+
+    private void givenRows(Long... ids) {
+        List<PostListRow> rows = Arrays.stream(ids)
+            .map(id -> new PostListRow(id, "제목" + id, "작성자", CategoryType.FREE,
+                LocalDateTime.now(), 0L, 0L))
+            .toList();
+        given(postRepository.findPostListRowsByIds(anyCollection())).willReturn(rows);
+    }
+}
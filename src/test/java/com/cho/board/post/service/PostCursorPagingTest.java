@@ -0,0 +1,113 @@
+package com.cho.board.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.category.entity.Category;
+import com.cho.board.category.repository.CategoryRepository;
+import com.cho.board.config.TestSecurityConfig;
+import com.cho.board.fixture.CategoryFixture;
+import com.cho.board.fixture.PostFixture;
+import com.cho.board.fixture.UserFixture;
+import com.cho.board.global.response.CursorSliceResponse;
+import com.cho.board.post.dtos.PostListResponse;
+import com.cho.board.post.repository.PostRepository;
+import com.cho.board.user.entity.User;
+import com.cho.board.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestSecurityConfig.class)
+@DisplayName("커서(키셋) 페이징 통합 테스트 (H2)")
+class PostCursorPagingTest {
+
+    private static final int POST_COUNT = 7;
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("작성일이 모두 같아도 id 로 순서를 정해 빠뜨리거나 중복 없이 끝까지 읽는다")
+    void createdAtTies_NoSkipOrDuplicate() {
+        // given
+        Category category = givenPostsWithSameSortKeys();
+
+        // when
+        List<Long> ids = readAllPages(category.getId(), "createdAt");
+
+        // then
+        assertThat(ids).hasSize(POST_COUNT).doesNotHaveDuplicates();
+        assertThat(ids).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("조회수가 모두 같아도 id 로 순서를 정해 빠뜨리거나 중복 없이 끝까지 읽는다")
+    void viewCountTies_NoSkipOrDuplicate() {
+        // given
+        Category category = givenPostsWithSameSortKeys();
+
+        // when
+        List<Long> ids = readAllPages(category.getId(), "viewCount");
+
+        // then
+        assertThat(ids).hasSize(POST_COUNT).doesNotHaveDuplicates();
+        assertThat(ids).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    // 다른 테스트 데이터와 섞이지 않도록 새 카테고리에 작성일/조회수가 같은 게시글 생성
+    private Category givenPostsWithSameSortKeys() {
+        User author = userRepository.save(UserFixture.createUserWithEmail("cursor@example.com"));
+        Category category = categoryRepository.save(CategoryFixture.createDefaultCategory());
+        IntStream.range(0, POST_COUNT).forEach(i ->
+            postRepository.save(PostFixture.createDefaultPost(author, category)));
+        entityManager.flush();
+
+        jdbcTemplate.update("UPDATE posts SET created_at = ?, view_count = ? WHERE category_id = ?",
+            Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0)), 5, category.getId());
+        entityManager.clear();
+        return category;
+    }
+
+    private List<Long> readAllPages(Long categoryId, String sort) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorSliceResponse<PostListResponse> page = postService.searchPostsByCursor(
+                null, categoryId, sort, cursor, PAGE_SIZE);
+            page.getContent().forEach(post -> ids.add(post.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+}
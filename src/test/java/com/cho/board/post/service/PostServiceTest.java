@@ -19,7 +19,9 @@ import com.cho.board.post.dtos.PostCreateRequest;
 import com.cho.board.post.dtos.PostDetailResponse;
 import com.cho.board.post.dtos.PostUpdateRequest;
 import com.cho.board.post.entity.Post;
+import com.cho.board.post.event.PostChangedEvent;
 import com.cho.board.post.repository.PostRepository;
+import com.cho.board.post.search.PostSearchIndex;
 import com.cho.board.user.entity.Role;
 import com.cho.board.user.entity.User;
 import com.cho.board.user.repository.UserRepository;
@@ -31,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +49,15 @@ class PostServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private ViewCountAggregator viewCountAggregator;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostService postService;
 
@@ -210,6 +222,7 @@ class PostServiceTest {
         // then
         then(postRepository).should().findById(1L);
         then(postRepository).should().delete(post);
+        then(eventPublisher).should().publishEvent(PostChangedEvent.deleted(1L));
     }
 
     @Test
@@ -0,0 +1,90 @@
+package com.cho.board.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.cho.board.post.event.PostViewCountsFlushedEvent;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewCountAggregator 단위 테스트")
+class ViewCountAggregatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ViewCountAggregator viewCountAggregator;
+
+    @Test
+    @DisplayName("누적된 조회수를 게시글별로 합산해 한 번의 배치로 반영한다")
+    void flush_Success() {
+        // given
+        viewCountAggregator.increment(1L);
+        viewCountAggregator.increment(1L);
+        viewCountAggregator.increment(2L);
+
+        // when
+        int flushed = viewCountAggregator.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), captor.capture());
+
+        assertThat(flushed).isEqualTo(2);
+        assertThat(captor.getValue())
+            .extracting(args -> args[1], args -> args[0])
+            .containsExactlyInAnyOrder(
+                tuple(1L, 2L),
+                tuple(2L, 1L));
+        assertThat(viewCountAggregator.getPending(1L)).isZero();
+        then(eventPublisher).should().publishEvent(any(PostViewCountsFlushedEvent.class));
+    }
+
+    @Test
+    @DisplayName("반영할 조회수가 없으면 쿼리를 실행하지 않는다")
+    void flush_NothingPending() {
+        // when
+        int flushed = viewCountAggregator.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 누적분을 되돌려 다음 주기에 재시도한다")
+    void flush_Fail_RestoresPending() {
+        // given
+        viewCountAggregator.increment(1L);
+        viewCountAggregator.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> viewCountAggregator.flush())
+            .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(viewCountAggregator.getPending(1L)).isEqualTo(2L);
+    }
+}
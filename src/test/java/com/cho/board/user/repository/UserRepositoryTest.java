@@ -0,0 +1,47 @@
+package com.cho.board.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cho.board.config.TestSecurityConfig;
+import com.cho.board.fixture.UserFixture;
+import com.cho.board.user.entity.User;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import(TestSecurityConfig.class)
+@DisplayName("UserRepository 통합 테스트 (H2)")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("비밀번호가 확인한 값 그대로일 때만 변경하고, 이미 바뀌었으면 0 건")
+    void changePasswordIfUnchanged() {
+        // given
+        User user = userRepository.save(
+            UserFixture.createUser("홍길동", "길동", "gildong@example.com", "hash-1"));
+
+        // when
+        int first = userRepository.changePasswordIfUnchanged(user.getId(), "hash-1", "hash-2",
+            LocalDateTime.now());
+        // 같은 확인값(hash-1)으로 동시에 들어온 다른 변경 요청
+        int second = userRepository.changePasswordIfUnchanged(user.getId(), "hash-1", "hash-3",
+            LocalDateTime.now());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword())
+            .isEqualTo("hash-2");
+    }
+}
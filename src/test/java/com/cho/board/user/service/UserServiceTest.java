@@ -5,33 +5,47 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.assertj.core.api.Assertions.*;
 
 
+import com.cho.board.auth.service.RefreshTokenService;
+import com.cho.board.file.service.FileService;
 import com.cho.board.global.exception.BusinessException;
 import com.cho.board.global.exception.DuplicateResourceException;
 import com.cho.board.global.exception.ErrorCode;
 import com.cho.board.global.exception.ResourceNotFoundException;
+import com.cho.board.global.security.PasswordHashingService;
+import com.cho.board.global.security.UserPrincipalCache;
 import com.cho.board.user.dtos.UserCreateRequest;
 import com.cho.board.user.dtos.UserUpdateRequest;
 import com.cho.board.user.entity.Role;
 import com.cho.board.user.entity.User;
 import com.cho.board.user.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserService 단위 테스트")
@@ -41,7 +55,24 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate =
+        new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+
+    // DB 반영을 호출한 스레드에서 바로 실행
+    @Spy
+    private Executor ioExecutor = new SyncTaskExecutor();
 
     @InjectMocks // 테스트 대상(Service) 위에 Mock 객체 (Repository) 들이 주입됨
     private UserService userService;
@@ -89,7 +120,7 @@ class UserServiceTest {
         // given
         given(userRepository.findByName(anyString())).willReturn(Optional.empty());
         given(userRepository.findByEmail(anyString())).willReturn(Optional.empty());
-        given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+        given(passwordHashingService.encode(anyString())).willReturn("encodedPassword");
         given(userRepository.save(any(User.class))).willReturn(user);
 
         // when
@@ -102,7 +133,7 @@ class UserServiceTest {
 
         then(userRepository).should().findByName("새닉네임");
         then(userRepository).should().findByEmail("new@example.com");
-        then(passwordEncoder).should().encode("Password123!");
+        then(passwordHashingService).should().encode("Password123!");
         then(userRepository).should().save(any(User.class));
     }
 
@@ -195,17 +226,19 @@ class UserServiceTest {
     void update_Success_WithPassword() {
         // given
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(false);
-        given(passwordEncoder.encode(anyString())).willReturn("newEncodedPassword");
+        given(passwordHashingService.matches(anyString(), anyString())).willReturn(false);
+        given(passwordHashingService.encode(anyString())).willReturn("newEncodedPassword");
 
         // when
         User result = userService.update(1L, updateRequest);
 
-        // then
+        // then : 해시 전(트랜잭션 밖) 1회, 반영할 때(트랜잭션 안) 1회 조회
         assertThat(result).isNotNull();
-        then(userRepository).should().findById(1L);
-        then(passwordEncoder).should().matches("NewPassword123!", "encodedPassword");
-        then(passwordEncoder).should().encode("NewPassword123!");
+        then(userRepository).should(times(2)).findById(1L);
+        then(passwordHashingService).should().matches("NewPassword123!", "encodedPassword");
+        then(passwordHashingService).should().encode("NewPassword123!");
+        then(userPrincipalCache).should().invalidate(1L);
+        then(refreshTokenService).should().revokeAllForUser(1L);
     }
 
     @Test
@@ -213,14 +246,14 @@ class UserServiceTest {
     void update_Fail_SamePassword() {
         // given
         given(userRepository.findById(1L)).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(passwordHashingService.matches(anyString(), anyString())).willReturn(true);
 
         // when & then
         assertThatThrownBy(() -> userService.update(1L, updateRequest))
             .isInstanceOf(BusinessException.class)
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SAME_PASSWORD);
 
-        then(passwordEncoder).should(never()).encode(anyString());
+        then(passwordHashingService).should(never()).encode(anyString());
     }
 
     @Test
@@ -237,6 +270,122 @@ class UserServiceTest {
         then(userRepository).should().findById(999L);
     }
 
+    @Test
+    @DisplayName("비밀번호 변경 성공 - 비교 1회, 해시 1회")
+    void changePassword_Success() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHashingService.matchesAsync("Password123!", "encodedPassword"))
+            .willReturn(CompletableFuture.completedFuture(true));
+        given(passwordHashingService.encodeAsync("NewPassword123!"))
+            .willReturn(CompletableFuture.completedFuture("newEncodedPassword"));
+        given(userRepository.changePasswordIfUnchanged(eq(1L), eq("encodedPassword"),
+            eq("newEncodedPassword"), any(LocalDateTime.class))).willReturn(1);
+
+        // when
+        userService.changePassword("test@example.com", "Password123!", "NewPassword123!")
+            .join();
+
+        // then
+        then(ioExecutor).should().execute(any(Runnable.class));
+        then(passwordHashingService).should().matchesAsync(anyString(), anyString());
+        then(passwordHashingService).should().encodeAsync(anyString());
+        then(userPrincipalCache).should().invalidate(1L);
+        then(refreshTokenService).should().revokeAllForUser(1L);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 실패 - 확인하는 사이 다른 요청이 비밀번호를 바꿔 조건부 UPDATE 가 0 건")
+    void changePassword_Fail_ChangedConcurrently() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHashingService.matchesAsync("Password123!", "encodedPassword"))
+            .willReturn(CompletableFuture.completedFuture(true));
+        given(passwordHashingService.encodeAsync("NewPassword123!"))
+            .willReturn(CompletableFuture.completedFuture("newEncodedPassword"));
+        given(userRepository.changePasswordIfUnchanged(eq(1L), eq("encodedPassword"),
+            eq("newEncodedPassword"), any(LocalDateTime.class))).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> userService.changePassword(
+            "test@example.com", "Password123!", "NewPassword123!").join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INCORRECT_PASSWORD);
+
+        then(userPrincipalCache).should(never()).invalidate(anyLong());
+        then(refreshTokenService).should(never()).revokeAllForUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 실패 - 현재 비밀번호와 같은 새 비밀번호는 추가 비교 없이 거절")
+    void changePassword_Fail_SamePassword() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHashingService.matchesAsync("Password123!", "encodedPassword"))
+            .willReturn(CompletableFuture.completedFuture(true));
+
+        // when & then
+        assertThatThrownBy(() -> userService.changePassword(
+            "test@example.com", "Password123!", "Password123!").join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SAME_PASSWORD);
+
+        then(passwordHashingService).should().matchesAsync(anyString(), anyString());
+        then(passwordHashingService).should(never()).encodeAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 실패 - 현재 비밀번호 불일치")
+    void changePassword_Fail_IncorrectPassword() {
+        // given
+        given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+        given(passwordHashingService.matchesAsync("Wrong123!", "encodedPassword"))
+            .willReturn(CompletableFuture.completedFuture(false));
+
+        // when & then
+        assertThatThrownBy(() -> userService.changePassword(
+            "test@example.com", "Wrong123!", "NewPassword123!").join())
+            .isInstanceOf(CompletionException.class)
+            .cause()
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INCORRECT_PASSWORD);
+
+        then(passwordHashingService).should(never()).encodeAsync(anyString());
+        then(userPrincipalCache).should(never()).invalidate(anyLong());
+        then(refreshTokenService).should(never()).revokeAllForUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("권한 변경 성공 - 이전에 발급된 토큰의 인증 주체 무효화")
+    void changeRole_Success() {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        User result = userService.changeRole(1L, Role.ADMIN);
+
+        // then
+        assertThat(result.getRole()).isEqualTo(Role.ADMIN);
+        then(userPrincipalCache).should().invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("권한 변경 실패 - 존재하지 않음")
+    void changeRole_Fail_NotFound() {
+        // given
+        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userService.changeRole(999L, Role.ADMIN))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        then(userPrincipalCache).should(never()).invalidate(anyLong());
+    }
+
     @Test
     @DisplayName("사용자 삭제 성공")
     void delete_Success() {
@@ -249,6 +398,9 @@ class UserServiceTest {
         // then
         then(userRepository).should().findById(1L);
         then(userRepository).should().delete(user);
+        then(fileService).should().release("profile.jpg");
+        then(userPrincipalCache).should().invalidate(1L);
+        then(refreshTokenService).should().revokeAllForUser(1L);
     }
 
     @Test
@@ -0,0 +1,89 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter } from 'k6/metrics';
+
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 혼합 부하
+// 같은 스크립트를 두 모드에서 각각 실행하고 요약 결과를 비교 (docs/performance/VIRTUAL_THREADS.md)
+//   VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun  ->  k6 run -e MODE=platform virtual-threads-test.js
+//   VIRTUAL_THREADS_ENABLED=true  ./gradlew bootRun  ->  k6 run -e MODE=virtual  virtual-threads-test.js
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+
+const rejected = new Counter('rejected_503');
+
+export const options = {
+  scenarios: {
+    // 목록 조회 (DB 읽기 위주)
+    reads: {
+      executor: 'ramping-vus',
+      exec: 'readPosts',
+      stages: [
+        { duration: '30s', target: 100 },
+        { duration: '1m', target: 300 },
+        { duration: '1m', target: 300 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+    // 회원가입 (BCrypt + DB 쓰기 + 메일 발송 비동기)
+    writes: {
+      executor: 'ramping-vus',
+      exec: 'signup',
+      stages: [
+        { duration: '30s', target: 20 },
+        { duration: '2m', target: 50 },
+        { duration: '30s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:reads}': ['p(95)<500'],
+    http_req_failed: ['rate<0.05'],
+  },
+  summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const res = http.post(`${BASE_URL}/auth/login`, JSON.stringify({
+    email: __ENV.LOGIN_EMAIL || 'test@example.com',
+    password: __ENV.LOGIN_PASSWORD || 'Test1234!@',
+  }), { headers: { 'Content-Type': 'application/json' } });
+
+  if (res.status !== 200) {
+    throw new Error(`Login failed: ${res.status}`);
+  }
+  return { token: JSON.parse(res.body).data.accessToken };
+}
+
+export function readPosts(data) {
+  const res = http.get(`${BASE_URL}/posts?page=0&size=20`, {
+    headers: { Authorization: `Bearer ${data.token}` },
+    tags: { mode: MODE },
+  });
+  record(res);
+  sleep(0.5);
+}
+
+export function signup() {
+  const email = `vt-${MODE}-${__VU}-${__ITER}-${Date.now()}@test.com`;
+  const res = http.post(`${BASE_URL}/auth/signup`, JSON.stringify({
+    email,
+    password: 'Test1234!@',
+    nickname: `vt${__VU}${__ITER}`.slice(0, 10),
+    name: '부하테스트',
+  }), {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { mode: MODE },
+  });
+  record(res);
+  sleep(1);
+}
+
+function record(res) {
+  if (res.status === 503) {
+    rejected.add(1);
+  }
+  check(res, {
+    'status is 200': (r) => r.status === 200,
+    '503 has Retry-After': (r) => r.status !== 503 || r.headers['Retry-After'] !== undefined,
+  });
+}